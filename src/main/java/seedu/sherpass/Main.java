@@ -15,6 +15,8 @@ import seedu.sherpass.util.Ui;
 import seedu.sherpass.task.TaskList;
 
 import java.io.IOException;
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -24,6 +26,14 @@ import java.util.logging.Logger;
 import static seedu.sherpass.constant.Message.ERROR_INVALID_SAVED_FILE_MESSAGE_1;
 import static seedu.sherpass.constant.Message.ERROR_INVALID_SAVED_FILE_MESSAGE_2;
 import static seedu.sherpass.constant.Message.ERROR_IO_FAILURE_MESSAGE;
+import static seedu.sherpass.constant.Message.OUTPUT_BUFFER_SIZE;
+import static seedu.sherpass.constant.StorageConstant.IS_COMPRESSION_ENABLED;
+import static seedu.sherpass.constant.StorageConstant.IS_JOURNAL_ENABLED;
+import static seedu.sherpass.constant.StorageConstant.IS_PAST_MONTHS_ARCHIVED;
+import static seedu.sherpass.constant.StorageConstant.IS_WRITE_BEHIND_ENABLED;
+import static seedu.sherpass.constant.StorageConstant.PARTITION_BY_MONTH_OPTION;
+import static seedu.sherpass.constant.StorageConstant.SAVE_DURABILITY;
+import static seedu.sherpass.constant.StorageConstant.WRITE_BEHIND_QUIET_PERIOD_MILLIS;
 
 public class Main {
 
@@ -39,9 +49,28 @@ public class Main {
      * @param  filePath Location of the save file.
      */
     public Main(String filePath) {
-        ui = new Ui();
+        this(filePath, false);
+    }
+
+    /**
+     * Initialises the program, optionally keeping the tasks of each month in a save file of their own.
+     * Without partitions, the months of an existing partitioned save are moved back into the save file.
+     *
+     * @param filePath             Location of the save file.
+     * @param isPartitionedByMonth Whether the tasks are saved in one file per month.
+     */
+    public Main(String filePath, boolean isPartitionedByMonth) {
+        ui = new Ui(OUTPUT_BUFFER_SIZE);
+        Runtime.getRuntime().addShutdownHook(new Thread(ui::flush));
         try {
-            storage = new Storage(filePath);
+            storage = new Storage(filePath, IS_JOURNAL_ENABLED, ui);
+            storage.setDurability(SAVE_DURABILITY);
+            if (isPartitionedByMonth) {
+                storage.enablePartitions();
+            }
+            if (IS_COMPRESSION_ENABLED) {
+                storage.enableCompression();
+            }
             taskList = new TaskList();
             storage.load(taskList);
         } catch (IOException e) {
@@ -58,6 +87,23 @@ public class Main {
                 System.exit(1);
             }
         }
+        if (IS_WRITE_BEHIND_ENABLED) {
+            storage.enableWriteBehind(WRITE_BEHIND_QUIET_PERIOD_MILLIS);
+        }
+        archivePastMonths();
+    }
+
+    /**
+     * Moves the tasks of past months out of the task list and drops them from the save cache,
+     * so that only the archive keeps them in memory.
+     * Commands reading all tasks leave the archived months in place, so there is only something to archive
+     * at start-up, once a new month begins, or after a command changed a task of a past month.
+     */
+    private void archivePastMonths() {
+        YearMonth currentMonth = YearMonth.now();
+        if (IS_PAST_MONTHS_ARCHIVED && taskList.hasTasksBefore(currentMonth)) {
+            storage.forgetTasks(taskList.archiveMonthsBefore(currentMonth));
+        }
     }
 
     private void initialiseLogger() {
@@ -94,13 +140,17 @@ public class Main {
             if (c != null) {
                 c.execute(taskList, ui, storage);
                 isExit = ExitCommand.isExit(c);
+                archivePastMonths();
             }
             ui.showLine();
         }
+        storage.close();
+        ui.flush();
     }
 
     public static void main(String[] args) {
-        new Main("data/sherpass.json").run();
+        boolean isPartitionedByMonth = Arrays.asList(args).contains(PARTITION_BY_MONTH_OPTION);
+        new Main("data/sherpass.json", isPartitionedByMonth).run();
     }
 
 }
@@ -58,9 +58,9 @@ public class AddCommand extends Command {
     @Override
     public void execute(TaskList taskList, Ui ui, Storage storage) {
         Task newTask;
-        int identifier = taskList.generateIdentifier();
-        newTask = new Task(identifier, taskDescription, byDate, doOnStartDateTime, doOnEndDateTime);
         try {
+            int identifier = taskList.generateIdentifier();
+            newTask = new Task(identifier, taskDescription, byDate, doOnStartDateTime, doOnEndDateTime);
             taskList.addTask(newTask, frequency, false);
             storage.writeSaveData(taskList);
             ui.showToUser(ADD_TASK_RESULT_MESSAGE);
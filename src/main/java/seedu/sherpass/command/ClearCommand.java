@@ -1,5 +1,6 @@
 package seedu.sherpass.command;
 
+import seedu.sherpass.exception.InvalidInputException;
 import seedu.sherpass.util.Storage;
 import seedu.sherpass.util.Ui;
 
@@ -68,18 +69,24 @@ public class ClearCommand extends Command {
         LocalDateTime currentDateTime = LocalDateTime.now();
         boolean conditionToRemoveTask;
         int taskIndex = 0;
-        while (taskIndex != taskList.getSize()) {
-            assert taskIndex < taskList.getSize();
-            if (selection.equals("expired")) {
-                conditionToRemoveTask = currentDateTime.isAfter(taskList.getTask(taskIndex).getDoOnStartDateTime());
-            } else {
-                conditionToRemoveTask = taskList.getTask(taskIndex).isDone();
+        try {
+            while (taskIndex != taskList.getSize()) {
+                assert taskIndex < taskList.getSize();
+                if (selection.equals("expired")) {
+                    conditionToRemoveTask = currentDateTime.isAfter(
+                            taskList.getTask(taskIndex).getDoOnStartDateTime());
+                } else {
+                    conditionToRemoveTask = taskList.getTask(taskIndex).isDone();
+                }
+                if (conditionToRemoveTask) {
+                    taskList.removeTask(taskIndex, false);
+                    taskIndex -= 1;
+                }
+                taskIndex += 1;
             }
-            if (conditionToRemoveTask) {
-                taskList.removeTask(taskIndex, false);
-                taskIndex -= 1;
-            }
-            taskIndex += 1;
+        } catch (InvalidInputException exception) {
+            // The tasks removed before the month which cannot be loaded are still saved
+            ui.showError(exception.getMessage());
         }
         if (taskList.getSize() != originalTaskListSize) {
             storage.writeSaveData(taskList);
@@ -19,14 +19,15 @@ public class ExitCommand extends Command {
     }
 
     /**
-     * Executes exit command. Prints a goodbye message.
+     * Executes exit command. Writes any save that is still queued and prints a goodbye message.
      *
      * @param taskList  Task array.
      * @param ui        Ui for printing messages.
-     * @param storage   Storage for appending or overwriting saved data. Not used in this method.
+     * @param storage   Storage for writing any queued save before exiting.
      */
     @Override
     public void execute(TaskList taskList, Ui ui, Storage storage) {
+        storage.flush();
         ui.showGoodbyeMessage();
     }
 }
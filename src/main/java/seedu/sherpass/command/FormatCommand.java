@@ -0,0 +1,49 @@
+package seedu.sherpass.command;
+
+import seedu.sherpass.enums.SaveFormat;
+import seedu.sherpass.exception.InvalidInputException;
+import seedu.sherpass.util.Storage;
+import seedu.sherpass.util.Ui;
+
+import seedu.sherpass.task.TaskList;
+
+import static seedu.sherpass.constant.Message.ERROR_INVALID_FORMAT_MESSAGE;
+import static seedu.sherpass.constant.Message.FORMAT_COMMAND_RESULT_MESSAGE;
+import static seedu.sherpass.constant.CommandMessage.MESSAGE_USAGE_FORMAT;
+
+
+public class FormatCommand extends Command {
+
+    private String selection;
+
+    public FormatCommand(String selection) {
+        this.selection = selection.trim().toUpperCase();
+    }
+
+    /**
+     * Executes the format command.
+     * Rewrites the save file in either the JSON or the binary format.
+     *
+     * @param taskList Task array.
+     * @param ui       UI for printing messages.
+     * @param storage  Storage for rewriting the save file.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage) {
+        SaveFormat saveFormat;
+        try {
+            saveFormat = SaveFormat.valueOf(selection);
+        } catch (IllegalArgumentException e) {
+            ui.showError(ERROR_INVALID_FORMAT_MESSAGE);
+            ui.showLine();
+            ui.showToUser(MESSAGE_USAGE_FORMAT);
+            return;
+        }
+        try {
+            storage.convertSaveFile(taskList, saveFormat);
+            ui.showToUser(FORMAT_COMMAND_RESULT_MESSAGE + saveFormat.name().toLowerCase() + " format.");
+        } catch (InvalidInputException e) {
+            ui.showError(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.sherpass.command;
+
+import seedu.sherpass.exception.InvalidInputException;
+import seedu.sherpass.util.Storage;
+import seedu.sherpass.util.Ui;
+
+import seedu.sherpass.task.TaskList;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+
+import static seedu.sherpass.constant.DateAndTimeFormat.outputWithTimeFormat;
+import static seedu.sherpass.constant.DateAndTimeFormat.timeOnlyFormat;
+import static seedu.sherpass.constant.Message.FREE_COMMAND_NO_SLOT_MESSAGE;
+import static seedu.sherpass.constant.Message.FREE_COMMAND_RESULT_MESSAGE;
+import static seedu.sherpass.constant.Message.TAB_INDENT;
+
+public class FreeCommand extends Command {
+
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final long durationMinutes;
+    private final int slotCount;
+
+    /**
+     * Creates a constructor for the free command.
+     * Saves the length of the slots to find and the dates to search between.
+     *
+     * @param durationMinutes Length of each slot in minutes.
+     * @param fromDate        First date to search from.
+     * @param toDate          Last date to search to.
+     * @param slotCount       Largest number of slots to find.
+     */
+    public FreeCommand(long durationMinutes, LocalDate fromDate, LocalDate toDate, int slotCount) {
+        this.durationMinutes = durationMinutes;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.slotCount = slotCount;
+    }
+
+    /**
+     * Executes the free command. Shows the earliest free slots of the given length
+     * between the two dates, none of which start in the past.
+     *
+     * @param taskList Task array.
+     * @param ui       Ui for printing.
+     * @param storage  Storage for save data. Not used in this method.
+     */
+    @Override
+    public void execute(TaskList taskList, Ui ui, Storage storage) {
+        LocalDateTime nextMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        LocalDateTime earliestStart = fromDate.atStartOfDay().isBefore(nextMinute)
+                ? nextMinute : fromDate.atStartOfDay();
+        ArrayList<LocalDateTime> freeSlots;
+        try {
+            freeSlots = taskList.findFreeSlots(earliestStart, toDate, durationMinutes, slotCount);
+        } catch (InvalidInputException e) {
+            ui.showError(e.getMessage());
+            return;
+        }
+        if (freeSlots.isEmpty()) {
+            ui.showToUser(FREE_COMMAND_NO_SLOT_MESSAGE);
+            return;
+        }
+        ui.showToUser(FREE_COMMAND_RESULT_MESSAGE);
+        for (int i = 0; i < freeSlots.size(); i++) {
+            LocalDateTime slotStart = freeSlots.get(i);
+            ui.showToUser(TAB_INDENT + (i + 1) + ". " + slotStart.format(outputWithTimeFormat)
+                    + " - " + slotStart.plusMinutes(durationMinutes).format(timeOnlyFormat));
+        }
+    }
+}
@@ -12,6 +12,8 @@ import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_CLEAR;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_DELETE;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_EDIT;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_EXIT;
+import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_FORMAT;
+import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_FREE;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_HELP_VARIANT;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_SHOW;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_MARK;
@@ -26,6 +28,8 @@ import static seedu.sherpass.constant.CommandMessage.MESSAGE_USAGE_EDIT;
 import static seedu.sherpass.constant.CommandMessage.MESSAGE_USAGE_SHOW;
 import static seedu.sherpass.constant.CommandMessage.MESSAGE_USAGE_STUDY;
 import static seedu.sherpass.constant.CommandMessage.MESSAGE_USAGE_EXIT;
+import static seedu.sherpass.constant.CommandMessage.MESSAGE_USAGE_FORMAT;
+import static seedu.sherpass.constant.CommandMessage.MESSAGE_USAGE_FREE;
 
 
 public class HelpCommand extends Command {
@@ -44,17 +48,17 @@ public class HelpCommand extends Command {
     }
 
     private void showHelpList(Ui ui) {
-        System.out.println("Here is a list of commands available:");
+        ui.showToUser("Here is a list of commands available:");
         String[] helpCommands = {COMMAND_WORD_MARK, COMMAND_WORD_UNMARK,
             COMMAND_WORD_ADD, COMMAND_WORD_SHOW,
             COMMAND_WORD_EDIT, COMMAND_WORD_DELETE, COMMAND_WORD_CLEAR,
-            COMMAND_WORD_STUDY, COMMAND_WORD_EXIT, };
+            COMMAND_WORD_FREE, COMMAND_WORD_FORMAT, COMMAND_WORD_STUDY, COMMAND_WORD_EXIT, };
         for (String helpCommand : helpCommands) {
             ui.showLine();
             showSpecificHelpCommand(ui, helpCommand);
         }
         ui.showLine();
-        System.out.println("For a quick summary of what commands to execute, \n"
+        ui.showToUser("For a quick summary of what commands to execute, \n"
                 + "enter 'help quick start'.");
     }
 
@@ -76,6 +80,12 @@ public class HelpCommand extends Command {
         case COMMAND_WORD_CLEAR:
             ui.showToUser(MESSAGE_USAGE_CLEAR);
             break;
+        case COMMAND_WORD_FORMAT:
+            ui.showToUser(MESSAGE_USAGE_FORMAT);
+            break;
+        case COMMAND_WORD_FREE:
+            ui.showToUser(MESSAGE_USAGE_FREE);
+            break;
         case COMMAND_WORD_SHOW:
             ui.showToUser(MESSAGE_USAGE_SHOW);
             break;
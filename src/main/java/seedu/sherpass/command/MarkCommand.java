@@ -1,5 +1,6 @@
 package seedu.sherpass.command;
 
+import seedu.sherpass.exception.InvalidInputException;
 import seedu.sherpass.util.Storage;
 import seedu.sherpass.util.Ui;
 
@@ -40,6 +41,8 @@ public class MarkCommand extends Command {
             ui.showToUser(TAB_INDENT + taskList.getTask(markIndex));
         } catch (IndexOutOfBoundsException exception) {
             ui.showError(ERROR_INVALID_MARKING_INDEX_MESSAGE);
+        } catch (InvalidInputException exception) {
+            ui.showError(exception.getMessage());
         }
     }
 }
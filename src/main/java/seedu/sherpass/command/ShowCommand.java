@@ -1,11 +1,14 @@
 package seedu.sherpass.command;
 
+import seedu.sherpass.exception.InvalidInputException;
+import seedu.sherpass.task.Task;
 import seedu.sherpass.task.TaskList;
 import seedu.sherpass.util.Storage;
 import seedu.sherpass.timetable.Timetable;
 import seedu.sherpass.util.Ui;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 
 import static java.time.Month.APRIL;
 import static java.time.Month.AUGUST;
@@ -19,14 +22,24 @@ import static java.time.Month.MAY;
 import static java.time.Month.NOVEMBER;
 import static java.time.Month.OCTOBER;
 import static java.time.Month.SEPTEMBER;
+import static seedu.sherpass.constant.Message.ERROR_INVALID_INDEX_MESSAGE;
 import static seedu.sherpass.constant.Message.ERROR_INVALID_INPUT_MESSAGE;
+import static seedu.sherpass.constant.Message.SHOW_DAYS_RESULT_MESSAGE_1;
+import static seedu.sherpass.constant.Message.SHOW_DAYS_RESULT_MESSAGE_2;
+import static seedu.sherpass.constant.Message.SHOW_SERIES_COUNT_MESSAGE_1;
+import static seedu.sherpass.constant.Message.SHOW_SERIES_COUNT_MESSAGE_2;
+import static seedu.sherpass.constant.Message.SHOW_SERIES_RESULT_MESSAGE;
 import static seedu.sherpass.constant.Message.WAITING_FOR_USER_NEXT_INPUT;
 import static seedu.sherpass.constant.Message.WELCOME_MESSAGE_TWO;
+import static seedu.sherpass.constant.TimetableConstant.SHOW_SERIES_OPTION;
 
 public class ShowCommand extends Command {
 
     private LocalDate dayInput;
     private String selection;
+    private int seriesIndex;
+    private LocalDate firstDate;
+    private int dayCount;
 
     /**
      * Creates an object of ShowCommand type.
@@ -40,6 +53,27 @@ public class ShowCommand extends Command {
         this.selection = selection;
     }
 
+    /**
+     * Creates an object of ShowCommand type which shows all occurrences of a task.
+     *
+     * @param seriesIndex The index of any occurrence of the task.
+     */
+    public ShowCommand(int seriesIndex) {
+        this.selection = SHOW_SERIES_OPTION;
+        this.seriesIndex = seriesIndex;
+    }
+
+    /**
+     * Creates an object of ShowCommand type which shows the schedule of a number of days in a row.
+     *
+     * @param firstDate The first date to show.
+     * @param dayCount  The number of days to show.
+     */
+    public ShowCommand(LocalDate firstDate, int dayCount) {
+        this.firstDate = firstDate;
+        this.dayCount = dayCount;
+    }
+
     /**
      * Compares the 2 ShowCommand object and whether the value contains within are equals.
      *
@@ -55,8 +89,11 @@ public class ShowCommand extends Command {
             return false;
         }
         ShowCommand command = (ShowCommand) obj;
+        if (command.firstDate != null) {
+            return firstDate != null && firstDate.isEqual(command.firstDate) && dayCount == command.dayCount;
+        }
         if (command.dayInput == null && command.selection != null) {
-            return selection.equals(command.selection);
+            return selection.equals(command.selection) && seriesIndex == command.seriesIndex;
         } else if (command.dayInput != null && command.selection == null) {
             return dayInput.isEqual(command.dayInput);
         } else {
@@ -67,7 +104,7 @@ public class ShowCommand extends Command {
     /**
      * Executes the show command. Shows the user the schedule
      * for the day that is specified, the list of incomplete
-     * tasks, the weekly schedule and the monthly schedule.
+     * tasks, the weekly schedule, the schedule of a number of days and the monthly schedule.
      *
      * @param taskList Task array.
      * @param ui       Ui for printing task content.
@@ -75,13 +112,37 @@ public class ShowCommand extends Command {
      */
     @Override
     public void execute(TaskList taskList, Ui ui, Storage storage) {
+        try {
+            showSchedule(taskList, ui);
+        } catch (InvalidInputException e) {
+            ui.showError(e.getMessage());
+        }
+    }
+
+    private void showSchedule(TaskList taskList, Ui ui) throws InvalidInputException {
         if (dayInput != null) {
             ui.showToUser("Here is the schedule you wanted:");
             Timetable.showScheduleByDay(dayInput, taskList, ui);
             return;
         }
+        if (firstDate != null) {
+            ui.showToUser(SHOW_DAYS_RESULT_MESSAGE_1 + dayCount + SHOW_DAYS_RESULT_MESSAGE_2);
+            Timetable.showScheduleOfDays(firstDate, dayCount, taskList, ui);
+            ui.showToUser(WAITING_FOR_USER_NEXT_INPUT);
+            return;
+        }
 
         switch (selection.toLowerCase()) {
+        case SHOW_SERIES_OPTION:
+            if (seriesIndex < 0 || seriesIndex >= taskList.getSize()) {
+                ui.showError(ERROR_INVALID_INDEX_MESSAGE);
+                break;
+            }
+            ArrayList<Task> series = taskList.getSeries(seriesIndex);
+            ui.showToUser(SHOW_SERIES_RESULT_MESSAGE);
+            Timetable.prepareCondensedTimetable(series, ui);
+            ui.showToUser(SHOW_SERIES_COUNT_MESSAGE_1 + series.size() + SHOW_SERIES_COUNT_MESSAGE_2);
+            break;
         case "todo":
             ui.showToUser("Here are your pending tasks:");
             Timetable.showPendingTasks(taskList, ui);
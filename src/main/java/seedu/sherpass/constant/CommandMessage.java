@@ -35,6 +35,16 @@ public class CommandMessage {
             + "START_TIME & END_TIME format: HH:mm";
     public static final String COMMAND_WORD_EXIT = "bye";
     public static final String MESSAGE_USAGE_EXIT = "Bye: Exits the program.\nUsage: bye";
+    public static final String COMMAND_WORD_FORMAT = "format";
+    public static final String MESSAGE_USAGE_FORMAT = "Format: Converts the save file to another format.\n"
+            + "Usage: format SAVE_FORMAT\n"
+            + "SAVE_FORMAT: json, or binary (smaller and faster to load)";
+    public static final String COMMAND_WORD_FREE = "free";
+    public static final String MESSAGE_USAGE_FREE = "Free: Finds the earliest free slots in your schedule.\n"
+            + "Usage: free /dur DURATION /from DATE /to DATE [/count COUNT]\n"
+            + "DURATION: length of each slot in minutes, from 1 to 1439\n"
+            + "DATE format: d/M/yyyy\n"
+            + "COUNT: number of slots to find, 5 if not given";
     public static final String COMMAND_WORD_HELP = "help";
     public static final String COMMAND_WORD_HELP_VARIANT = "quick start";
     public static final String COMMAND_WORD_SHOW = "show";
@@ -47,18 +57,23 @@ public class CommandMessage {
             + "         3) show week\n"
             + "         4) show next week/nextweek\n"
             + "         5) show DATE   (DATE format: d/M/yyyy)\n"
+            + "       Show timetable of a number of days from today:\n"
+            + "         6) show DAYSd  (DAYS is from 1 to 366\n"
+            + "                         E.g. `show 14d`)\n"
             + "       Show list of tasks in the current/specified month:\n"
-            + "         6) show month\n"
-            + "         7) show MONTH  (MONTH is either the full spelling\n"
+            + "         7) show month\n"
+            + "         8) show MONTH  (MONTH is either the full spelling\n"
             + "                         of the specific month or is its\n"
             + "                         3-letter abbreviation\n"
             + "                         E.g. `show sep`, `show september`)\n"
             + "            Caution: show MONTH will not display tasks in\n"
             + "                     the previous months\n"
             + "       Show all tasks:\n"
-            + "         8) show all\n"
+            + "         9) show all\n"
             + "       Show list of unfinished tasks:\n"
-            + "         9) show todo";
+            + "        10) show todo\n"
+            + "       Show all occurrences of a recurring task:\n"
+            + "        11) show series TASK_NUMBER";
     public static final String COMMAND_WORD_STUDY = "study";
     public static final String MESSAGE_USAGE_STUDY = "Study: Creates a study session.\n"
             + "Usage: study\n\n"
@@ -8,4 +8,8 @@ public class CommandParameter {
     public static final String START_TIME_DELIMITER = "/start";
     public static final String END_TIME_DELIMITER = "/end";
     public static final String TIMER_CUSTOM_DELIMITER = "/custom";
+    public static final String DURATION_DELIMITER = "/dur";
+    public static final String FROM_DATE_DELIMITER = "/from";
+    public static final String TO_DATE_DELIMITER = "/to";
+    public static final String COUNT_DELIMITER = "/count";
 }
@@ -21,4 +21,5 @@ public class DateAndTimeFormat {
     public static final DateTimeFormatter outputDateOnlyFormat = DateTimeFormatter.ofPattern("dd/MM/uuuu");
     public static final DateTimeFormatter dayOnlyFormat = DateTimeFormatter.ofPattern("EEE");
     public static final DateTimeFormatter timeOnlyFormat = DateTimeFormatter.ofPattern("HH:mm");
+    public static final DateTimeFormatter fileNameTimeFormat = DateTimeFormatter.ofPattern("uuuuMMdd-HHmmss");
 }
@@ -7,6 +7,7 @@ public class Message {
     public static final String PARTITION_LINE = "______________________________"
             + "______________________________";
     public static final String LS = System.lineSeparator();
+    public static final int OUTPUT_BUFFER_SIZE = 1 << 16;
     public static final String LOGO = "  ____  _\n"
             + " / ___|| |__   ___ _ __ "
             + "_ __   __ _ ___ ___\n"
@@ -86,6 +87,15 @@ public class Message {
     public static final String CLEAR_ALL_COMMAND_CANCEL_MESSAGE = "Okay, we'll keep it as it is.";
     public static final String CLEAR_NO_EXPIRED_TASK_MESSAGE = "There are no expired tasks to be removed.";
     public static final String CLEAR_NO_COMPLETED_TASK_MESSAGE = "There are no completed tasks to be removed.";
+    public static final String FORMAT_COMMAND_RESULT_MESSAGE = "Done! Your tasks are now saved in ";
+    public static final String FREE_COMMAND_RESULT_MESSAGE = "Here are the earliest free slots in your schedule:";
+    public static final String FREE_COMMAND_NO_SLOT_MESSAGE = "There are no free slots of that length "
+            + "between those dates.";
+    public static final String SHOW_DAYS_RESULT_MESSAGE_1 = "Here is your schedule for the next ";
+    public static final String SHOW_DAYS_RESULT_MESSAGE_2 = " day(s):";
+    public static final String SHOW_SERIES_RESULT_MESSAGE = "Here are all the occurrences of the task:";
+    public static final String SHOW_SERIES_COUNT_MESSAGE_1 = "The task occurs ";
+    public static final String SHOW_SERIES_COUNT_MESSAGE_2 = " time(s)";
     public static final String WAITING_FOR_USER_NEXT_INPUT = "What would you like to do next?";
     public static final String ERROR_NO_VALUE_FOR_PARAMETER_MESSAGE = "Please enter a value for the parameter!";
     public static final String ERROR_EMPTY_EDIT_CONTENT_MESSAGE = "Please enter at least one optional parameter!";
@@ -110,12 +120,27 @@ public class Message {
     public static final String ERROR_INVALID_DELETE_INDEX_MESSAGE = "It seems that you've given\n"
             + "an invalid index to delete the task.";
     public static final String ERROR_INVALID_CLEAR_MESSAGE = "Please use appropriate keywords";
+    public static final String ERROR_INVALID_FORMAT_MESSAGE = "Please use an available save format";
+    public static final String ERROR_FREE_DATES_MISSING_MESSAGE = "Please specify the duration and "
+            + "both dates to search between!";
+    public static final String ERROR_INVALID_FREE_DURATION_MESSAGE = "Duration must be a whole number of minutes "
+            + "from 1 to 1439!";
+    public static final String ERROR_INVALID_FREE_COUNT_MESSAGE = "Number of slots must be a positive whole number!";
+    public static final String ERROR_INVALID_SHOW_DAYS_MESSAGE = "Number of days must be a whole number "
+            + "from 1 to 366, e.g. `show 14d`!";
+    public static final String ERROR_FREE_TO_BEFORE_FROM_MESSAGE = "Your last date cannot be before your first date!";
     public static final String ERROR_IO_FAILURE_MESSAGE = "Oh no! We've encountered an error \nwhile "
             + "trying to processing the system.\n"
             + "Please reboot and execute the application again.";
     public static final String ERROR_INVALID_SAVED_FILE_MESSAGE_1 = "Oops! It seems that your saved file "
             + "contains invalid data.\nWould you like to start with a new save "
             + "file? (Y/N):";
+    public static final String CLASHING_SAVED_TASKS_MESSAGE = "Some tasks in your save file clash with each other :(";
+    public static final String QUARANTINED_TASKS_MESSAGE_1 = "These tasks have been moved out of your schedule "
+            + "and into\n";
+    public static final String QUARANTINED_TASKS_MESSAGE_2 = "\nso that you can add them back at another time:";
+    public static final String ERROR_MISSING_PARTITION_MESSAGE = "Oops! The saved tasks of a month are missing "
+            + "from your save folder:\n";
     public static final String ERROR_INVALID_SAVED_FILE_MESSAGE_2 = "We're sorry this happened. "
             + "Please refer to the troubleshooting section in the user guide "
             + "or contact the developers for help.";
@@ -0,0 +1,31 @@
+package seedu.sherpass.constant;
+
+import seedu.sherpass.enums.Durability;
+
+public class StorageConstant {
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int JOURNAL_COMPACTION_THRESHOLD = 500;
+    public static final boolean IS_JOURNAL_ENABLED = true;
+    public static final int READ_BUFFER_SIZE = 65536;
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final Durability SAVE_DURABILITY = Durability.FSYNC;
+    public static final String PARTITION_BY_MONTH_OPTION = "--partition-by-month";
+    public static final String PARTITION_FILE_EXTENSION = ".json";
+    public static final String PARTITION_FILE_SEPARATOR = "-";
+    public static final String GZIP_FILE_EXTENSION = ".gz";
+    public static final String QUARANTINE_FILE_PREFIX = "quarantine-";
+    public static final String QUARANTINE_FILE_EXTENSION = ".json";
+    public static final int GZIP_MAGIC_LENGTH = 2;
+    public static final boolean IS_COMPRESSION_ENABLED = false;
+    public static final boolean IS_WRITE_BEHIND_ENABLED = true;
+    public static final boolean IS_PAST_MONTHS_ARCHIVED = true;
+    public static final long WRITE_BEHIND_QUIET_PERIOD_MILLIS = 500;
+    public static final int BINARY_FORMAT_MAGIC = 0x53485042; // "SHPB"
+    public static final int BINARY_FORMAT_VERSION = 3;
+    public static final int BINARY_FORMAT_VERSION_WITHOUT_NEXT_IDENTIFIER = 2;
+    public static final int BINARY_FORMAT_VERSION_WITHOUT_RULES = 1;
+    public static final int BINARY_FLAG_DONE = 1;
+    public static final int BINARY_FLAG_HAS_BY_DATE = 2;
+    public static final int BINARY_FLAG_HAS_RECURRENCE_RULE = 4;
+    public static final long LEGACY_IDENTIFIER_LIMIT = 65536;
+}
@@ -1,6 +1,9 @@
 package seedu.sherpass.constant;
 
 public class TimetableConstant {
+    public static final String SHOW_SERIES_OPTION = "series";
+    public static final String SHOW_DAYS_SUFFIX = "d";
+    public static final int MAX_SHOW_DAYS = 366;
     public static long TASK_DESCRIPTION_FULL_LENGTH = 22;
     public static long TASK_DESCRIPTION_COMPARE_LENGTH = 14;
     public static long TASK_DESCRIPTION_COMPARE_OFFSET_LENGTH = 7;
@@ -26,6 +29,8 @@ public class TimetableConstant {
     public static String BLANK_TIME_PERIOD = "             ";
     public static String BLANK_MARK_STATUS = " ";
     public static int STRING_COMPARE_OFFSET = 4;
+    public static final int DEFAULT_FREE_SLOT_COUNT = 5;
+    public static final long LAST_MINUTE_OF_DAY = 1439;
 }
 
 
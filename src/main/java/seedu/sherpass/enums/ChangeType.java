@@ -0,0 +1,8 @@
+package seedu.sherpass.enums;
+
+public enum ChangeType {
+    PUT,
+    REMOVE,
+    CLEAR,
+    RENAME
+}
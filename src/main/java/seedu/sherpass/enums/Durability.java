@@ -0,0 +1,7 @@
+package seedu.sherpass.enums;
+
+public enum Durability {
+    NONE,
+    FSYNC,
+    FSYNC_DIRECTORY
+}
@@ -0,0 +1,6 @@
+package seedu.sherpass.enums;
+
+public enum SaveFormat {
+    JSON,
+    BINARY
+}
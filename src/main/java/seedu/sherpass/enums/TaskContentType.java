@@ -1,8 +0,0 @@
-package seedu.sherpass.enums;
-
-public enum TaskContentType {
-    TASK_DESCRIPTION,
-    TASK_NUMBER,
-    DO_ON_DATE,
-    BY_DATE
-}
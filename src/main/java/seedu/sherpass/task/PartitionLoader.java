@@ -0,0 +1,19 @@
+package seedu.sherpass.task;
+
+import seedu.sherpass.exception.InvalidInputException;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+
+public interface PartitionLoader {
+
+    /**
+     * Returns the tasks which start in the given month, read from where they are saved.
+     * The tasks returned are valid and do not clash with each other.
+     *
+     * @param month The month of the partition to load.
+     * @return ArrayList of the tasks starting in the month.
+     * @throws InvalidInputException If the saved tasks of the month are missing, invalid or cannot be read.
+     */
+    ArrayList<Task> loadPartition(YearMonth month) throws InvalidInputException;
+}
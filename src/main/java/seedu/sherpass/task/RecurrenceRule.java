@@ -0,0 +1,145 @@
+package seedu.sherpass.task;
+
+import seedu.sherpass.enums.Frequency;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+public class RecurrenceRule {
+    private static final int DAYS_IN_A_WEEK = 7;
+
+    private final Frequency frequency;
+    private final LocalDateTime firstStartDateTime;
+    private final LocalDateTime firstEndDateTime;
+    private final LocalDateTime firstByDateTime;
+
+    /**
+     * Creates the rule of a recurring task, from which the dates of each occurrence can be worked out.
+     * The occurrences are numbered by their step from the first occurrence, which is step 0.
+     * The rule is used to save and load a recurring task as a single record, while the task list
+     * still holds each occurrence as a task of its own.
+     *
+     * @param frequency          The frequency of recurrence.
+     * @param firstStartDateTime The start date and time of the first occurrence.
+     * @param firstEndDateTime   The end date and time of the first occurrence.
+     * @param firstByDateTime    The by date and time of the first occurrence, or null if there is none.
+     */
+    public RecurrenceRule(Frequency frequency, LocalDateTime firstStartDateTime,
+                          LocalDateTime firstEndDateTime, LocalDateTime firstByDateTime) {
+        assert frequency != Frequency.SINGLE;
+        this.frequency = frequency;
+        this.firstStartDateTime = firstStartDateTime;
+        this.firstEndDateTime = firstEndDateTime;
+        this.firstByDateTime = firstByDateTime;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public LocalDateTime getFirstStartDateTime() {
+        return firstStartDateTime;
+    }
+
+    public LocalDateTime getFirstEndDateTime() {
+        return firstEndDateTime;
+    }
+
+    public LocalDateTime getFirstByDateTime() {
+        return firstByDateTime;
+    }
+
+    /**
+     * Returns a new occurrence of the recurring task at the given step.
+     * The occurrence has the same dates as if it had been prepared from the previous occurrence with
+     * {@link TaskUtil#prepareNextTask(Task, Frequency)}.
+     *
+     * @param identifier  The identifier of the recurring task.
+     * @param description The description of the recurring task.
+     * @param step        The step of the occurrence from the first occurrence.
+     * @return The occurrence at the given step.
+     */
+    public Task createOccurrence(int identifier, String description, int step) {
+        LocalDateTime byDateTime = firstByDateTime == null ? null : shift(firstByDateTime, step);
+        Task occurrence = new Task(identifier, description, byDateTime,
+                shift(firstStartDateTime, step), shift(firstEndDateTime, step));
+        occurrence.setRecurrenceRule(this);
+        return occurrence;
+    }
+
+    /**
+     * Returns the step of the occurrence that a task is, or -1 if the dates of the task
+     * do not match any occurrence, e.g. as it has been edited.
+     *
+     * @param task Task to be matched against the occurrences.
+     * @return The step of the matching occurrence, or -1 if there is none.
+     */
+    public int findStep(Task task) {
+        LocalDateTime startDateTime = task.getDoOnStartDateTime();
+        long step;
+        switch (frequency) {
+        case DAILY:
+            step = ChronoUnit.DAYS.between(firstStartDateTime.toLocalDate(), startDateTime.toLocalDate());
+            break;
+        case WEEKLY:
+            step = ChronoUnit.DAYS.between(firstStartDateTime.toLocalDate(), startDateTime.toLocalDate())
+                    / DAYS_IN_A_WEEK;
+            break;
+        default:
+            step = ChronoUnit.MONTHS.between(YearMonth.from(firstStartDateTime), YearMonth.from(startDateTime));
+            break;
+        }
+        if (step < 0 || step > Integer.MAX_VALUE) {
+            return -1;
+        }
+        int matchedStep = (int) step;
+        boolean isMatchingByDate = firstByDateTime == null
+                ? task.getByDateTime() == null
+                : shift(firstByDateTime, matchedStep).equals(task.getByDateTime());
+        if (shift(firstStartDateTime, matchedStep).equals(startDateTime)
+                && shift(firstEndDateTime, matchedStep).equals(task.getDoOnEndDateTime())
+                && isMatchingByDate) {
+            return matchedStep;
+        }
+        return -1;
+    }
+
+    private LocalDateTime shift(LocalDateTime dateTime, int step) {
+        switch (frequency) {
+        case DAILY:
+            return dateTime.plusDays(step);
+        case WEEKLY:
+            return dateTime.plusWeeks(step);
+        default:
+            // Months are added one at a time like the occurrences were, so a day at the end of a month
+            // stays at the earlier day it was moved to in a shorter month
+            LocalDateTime shiftedDateTime = dateTime;
+            for (int i = 0; i < step; i++) {
+                shiftedDateTime = shiftedDateTime.plusMonths(1);
+            }
+            return shiftedDateTime;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof RecurrenceRule)) {
+            return false;
+        }
+        RecurrenceRule rule = (RecurrenceRule) o;
+        return frequency == rule.frequency
+                && firstStartDateTime.equals(rule.firstStartDateTime)
+                && firstEndDateTime.equals(rule.firstEndDateTime)
+                && Objects.equals(firstByDateTime, rule.firstByDateTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, firstStartDateTime, firstEndDateTime, firstByDateTime);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.sherpass.task;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import static seedu.sherpass.constant.DateAndTimeFormat.outputWithTimeFormat;
 import static seedu.sherpass.constant.DateAndTimeFormat.outputWithoutTimeFormat;
@@ -8,14 +9,21 @@ import static seedu.sherpass.constant.Message.EMPTY_STRING;
 import static seedu.sherpass.constant.Message.WHITESPACE;
 
 public class Task {
-    protected String description;
-    protected int identifier;
+    public static final long NO_BY_DATE_MINUTE = Long.MIN_VALUE;
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    protected TaskSeries series;
     protected boolean isDone;
     protected LocalDateTime byDateTime;
     protected LocalDateTime doOnStartDateTime;
     protected LocalDateTime doOnEndDateTime;
+    protected long doOnStartMinute;
+    protected long doOnEndMinute;
+    protected long byMinute;
+    protected long doOnEpochDay;
 
     protected int index;
+    protected int version;
 
     /**
      * Creates an object for the class 'Task'.
@@ -26,13 +34,29 @@ public class Task {
      */
     public Task(int identifier, String description, LocalDateTime byDateTime,
                 LocalDateTime doOnStartDateTime, LocalDateTime doOnEndDateTime) {
-        this.identifier = identifier;
-        this.description = description;
+        this.series = new TaskSeries(identifier, description, null);
         this.byDateTime = byDateTime;
         this.doOnStartDateTime = doOnStartDateTime;
         this.doOnEndDateTime = doOnEndDateTime;
         this.isDone = false;
         this.index = 0;
+        refreshTimeKeys();
+    }
+
+    /**
+     * Works out the dates of the task as numbers, which are compared instead of the dates
+     * when sorting the tasks and checking them for clashes.
+     * Must be called whenever any date of the task changes.
+     */
+    private void refreshTimeKeys() {
+        doOnStartMinute = toEpochMinute(doOnStartDateTime);
+        doOnEndMinute = toEpochMinute(doOnEndDateTime);
+        byMinute = byDateTime == null ? NO_BY_DATE_MINUTE : toEpochMinute(byDateTime);
+        doOnEpochDay = doOnStartDateTime.toLocalDate().toEpochDay();
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
     }
 
     public int getIndex() {
@@ -43,6 +67,16 @@ public class Task {
         this.index = index;
     }
 
+    /**
+     * Returns the modification version of the task, which changes whenever any saved detail of the task changes,
+     * including the details of its series.
+     *
+     * @return The modification version of the task.
+     */
+    public int getVersion() {
+        return version + series.getVersion();
+    }
+
     /**
      * Returns the time range for when the task is taking place.
      * Format of time is in 24 hours.
@@ -55,7 +89,7 @@ public class Task {
     }
 
     public String getDescription() {
-        return description;
+        return series.getDescription();
     }
 
     public boolean isDone() {
@@ -73,10 +107,12 @@ public class Task {
 
     public void markAsDone() {
         isDone = true;
+        version++;
     }
 
     public void markAsUndone() {
         isDone = false;
+        version++;
     }
 
     /**
@@ -95,6 +131,40 @@ public class Task {
         return doOnStartDateTime;
     }
 
+    /**
+     * Returns the start date and time of the task as the number of minutes since 1/1/1970 00:00.
+     * Dates of tasks are only kept to the minute, so comparing these numbers gives the same order
+     * as comparing the dates, without creating any objects.
+     *
+     * @return The start date and time in minutes since the epoch.
+     */
+    public long getDoOnStartMinute() {
+        return doOnStartMinute;
+    }
+
+    public long getDoOnEndMinute() {
+        return doOnEndMinute;
+    }
+
+    /**
+     * Returns the by date and time of the task as the number of minutes since 1/1/1970 00:00.
+     *
+     * @return The by date and time in minutes since the epoch, or NO_BY_DATE_MINUTE if there is none.
+     */
+    public long getByMinute() {
+        return byMinute;
+    }
+
+    /**
+     * Returns the start date of the task as the number of days since 1/1/1970.
+     * Two tasks start on the same day exactly when these numbers are equal.
+     *
+     * @return The start date in days since the epoch.
+     */
+    public long getDoOnEpochDay() {
+        return doOnEpochDay;
+    }
+
     /**
      * Returns the by date in String format.
      *
@@ -148,11 +218,57 @@ public class Task {
     }
 
     public int getIdentifier() {
-        return identifier;
+        return series.getIdentifier();
     }
 
     public void setIdentifier(int identifier) {
-        this.identifier = identifier;
+        replaceSeries(new TaskSeries(identifier, getDescription(), getRecurrenceRule()));
+    }
+
+    /**
+     * Returns the rule of the recurring task that this task is an occurrence of.
+     *
+     * @return The recurrence rule, or null if the task does not recur.
+     */
+    public RecurrenceRule getRecurrenceRule() {
+        return series.getRecurrenceRule();
+    }
+
+    public void setRecurrenceRule(RecurrenceRule recurrenceRule) {
+        replaceSeries(new TaskSeries(getIdentifier(), getDescription(), recurrenceRule));
+    }
+
+    /**
+     * Returns the identifier, description and recurrence rule of the task,
+     * which may be shared with the other occurrences of the task.
+     *
+     * @return The series of the task.
+     */
+    public TaskSeries getSeries() {
+        return series;
+    }
+
+    /**
+     * Shares the given series with this task if it has the same details as the series of this task,
+     * so that editing the series edits this task as well.
+     *
+     * @param sharedSeries The series of another occurrence of the task.
+     */
+    void shareSeries(TaskSeries sharedSeries) {
+        if (sharedSeries != series && sharedSeries.hasSameDetails(series)) {
+            replaceSeries(sharedSeries);
+        }
+    }
+
+    /**
+     * Moves the task to another series instead of changing the series it shares with other occurrences.
+     * The version of the task is raised past the version of the old series, so it keeps increasing.
+     *
+     * @param newSeries The series the task is moved to.
+     */
+    private void replaceSeries(TaskSeries newSeries) {
+        version += series.getVersion() - newSeries.getVersion() + 1;
+        series = newSeries;
     }
 
     /**
@@ -166,10 +282,8 @@ public class Task {
      */
     public void editTask(int identifier, String taskDescription,
             long startDateOffset, long endDateOffset, long byDateOffset) {
-        this.identifier = identifier;
-        if (!taskDescription.isBlank()) {
-            description = taskDescription;
-        }
+        String newDescription = taskDescription.isBlank() ? getDescription() : taskDescription;
+        replaceSeries(new TaskSeries(identifier, newDescription, getRecurrenceRule()));
         if (startDateOffset != 0) {
             doOnStartDateTime = doOnStartDateTime.plusSeconds(startDateOffset);
         }
@@ -179,6 +293,7 @@ public class Task {
         if (byDateOffset != 0) {
             byDateTime = doOnStartDateTime.plusSeconds(byDateOffset);
         }
+        refreshTimeKeys();
     }
 
     @Override
@@ -192,15 +307,22 @@ public class Task {
         }
 
         Task t = (Task) o;
-        return description.equals(t.getDescription())
+        return getDescription().equals(t.getDescription())
                 && doOnStartDateTime.equals(t.getDoOnStartDateTime())
                 && doOnEndDateTime.equals(t.getDoOnEndDateTime())
-                && identifier == (t.getIdentifier())
+                && getIdentifier() == (t.getIdentifier())
                 && byDateTime.equals(t.getByDateTime());
     }
 
+    /**
+     * Returns a copy of the task, which shares the series of the task until either of them is edited.
+     *
+     * @return The copy of the task.
+     */
     public Task copy() {
-        return new Task(this.identifier, this.description, this.byDateTime,
+        Task copiedTask = new Task(getIdentifier(), getDescription(), this.byDateTime,
                 this.doOnStartDateTime, this.doOnEndDateTime);
+        copiedTask.series = this.series;
+        return copiedTask;
     }
 }
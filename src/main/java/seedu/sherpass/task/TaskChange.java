@@ -0,0 +1,53 @@
+package seedu.sherpass.task;
+
+import seedu.sherpass.enums.ChangeType;
+
+public class TaskChange {
+    private final ChangeType type;
+    private final Task task;
+    private final Task lastTask;
+    private final int previousIdentifier;
+
+    /**
+     * Creates a record of a single change made to the task list.
+     * The task is null for changes that do not concern a specific task, i.e. clearing the list.
+     *
+     * @param type The type of change made.
+     * @param task The task that was put into or removed from the task list.
+     */
+    public TaskChange(ChangeType type, Task task) {
+        this(type, task, task, 0);
+    }
+
+    /**
+     * Creates a record of a change made to every occurrence of a recurring task at once, i.e. renaming it.
+     * The first occurrence holds the new details shared by all of the occurrences.
+     *
+     * @param type               The type of change made.
+     * @param task               The first occurrence of the recurring task.
+     * @param lastTask           The last occurrence of the recurring task.
+     * @param previousIdentifier The identifier of the occurrences before the change.
+     */
+    public TaskChange(ChangeType type, Task task, Task lastTask, int previousIdentifier) {
+        this.type = type;
+        this.task = task;
+        this.lastTask = lastTask;
+        this.previousIdentifier = previousIdentifier;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    public Task getLastTask() {
+        return lastTask;
+    }
+
+    public int getPreviousIdentifier() {
+        return previousIdentifier;
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.sherpass.task;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+
+public class TaskColumns {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long SECONDS_PER_MINUTE = 60;
+    private static final int NO_BY_DATE = Integer.MIN_VALUE;
+    private static final int NO_RULE = -1;
+
+    private int size = 0;
+    private int[] identifiers = new int[INITIAL_CAPACITY];
+    private int[] startMinutes = new int[INITIAL_CAPACITY];
+    private int[] endMinutes = new int[INITIAL_CAPACITY];
+    private int[] byMinutes = new int[INITIAL_CAPACITY];
+    private int[] descriptionIds = new int[INITIAL_CAPACITY];
+    private int[] ruleIds = new int[INITIAL_CAPACITY];
+    private final BitSet doneFlags = new BitSet();
+    private final ArrayList<String> descriptions = new ArrayList<>();
+    private final HashMap<String, Integer> descriptionPool = new HashMap<>();
+    private final ArrayList<RecurrenceRule> rules = new ArrayList<>();
+    private final HashMap<RecurrenceRule, Integer> rulePool = new HashMap<>();
+
+    /**
+     * Appends a task to the columns.
+     * The dates of the task are kept as minutes since the epoch, and a description or recurrence rule
+     * shared by several tasks is only kept once.
+     *
+     * @param task Task to be appended.
+     */
+    public void add(Task task) {
+        if (size == identifiers.length) {
+            grow();
+        }
+        identifiers[size] = task.getIdentifier();
+        startMinutes[size] = Math.toIntExact(task.getDoOnStartMinute());
+        endMinutes[size] = Math.toIntExact(task.getDoOnEndMinute());
+        byMinutes[size] = task.getByMinute() == Task.NO_BY_DATE_MINUTE ? NO_BY_DATE
+                : Math.toIntExact(task.getByMinute());
+        descriptionIds[size] = descriptionPool.computeIfAbsent(task.getDescription(), description -> {
+            descriptions.add(description);
+            return descriptions.size() - 1;
+        });
+        ruleIds[size] = task.getRecurrenceRule() == null ? NO_RULE
+                : rulePool.computeIfAbsent(task.getRecurrenceRule(), rule -> {
+                    rules.add(rule);
+                    return rules.size() - 1;
+                });
+        doneFlags.set(size, task.isDone());
+        size++;
+    }
+
+    private void grow() {
+        int capacity = identifiers.length * 2;
+        identifiers = Arrays.copyOf(identifiers, capacity);
+        startMinutes = Arrays.copyOf(startMinutes, capacity);
+        endMinutes = Arrays.copyOf(endMinutes, capacity);
+        byMinutes = Arrays.copyOf(byMinutes, capacity);
+        descriptionIds = Arrays.copyOf(descriptionIds, capacity);
+        ruleIds = Arrays.copyOf(ruleIds, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getPendingCount() {
+        return size - doneFlags.cardinality();
+    }
+
+    /**
+     * Returns a new task holding the details of the task at the given position.
+     * Each call creates a new task, so changes to the task are not kept in the columns.
+     *
+     * @param position Position of the task in the columns.
+     * @return Task at the position.
+     */
+    public Task getTask(int position) {
+        assert position >= 0 && position < size;
+        LocalDateTime byDateTime = byMinutes[position] == NO_BY_DATE ? null : toDateTime(byMinutes[position]);
+        Task task = new Task(identifiers[position], descriptions.get(descriptionIds[position]), byDateTime,
+                toDateTime(startMinutes[position]), toDateTime(endMinutes[position]));
+        if (ruleIds[position] != NO_RULE) {
+            task.setRecurrenceRule(rules.get(ruleIds[position]));
+        }
+        if (doneFlags.get(position)) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    public int getIdentifier(int position) {
+        assert position >= 0 && position < size;
+        return identifiers[position];
+    }
+
+    /**
+     * Returns new tasks holding the details of the tasks with the given identifier, in the order they were added.
+     * Only the identifiers are looked at to find the tasks, so no other task is created.
+     *
+     * @param identifier Identifier of the tasks.
+     * @param firstIndex Number of the first task in the columns, from which the tasks found are numbered.
+     * @return ArrayList of the tasks with the identifier.
+     */
+    public ArrayList<Task> getTasksOfSeries(int identifier, int firstIndex) {
+        ArrayList<Task> series = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (identifiers[i] == identifier) {
+                Task task = getTask(i);
+                task.setIndex(firstIndex + i);
+                series.add(task);
+            }
+        }
+        return series;
+    }
+
+    /**
+     * Returns the position of the first task starting at or after the given minute.
+     * The tasks must have been added in date order.
+     *
+     * @param epochMinute The minute as the number of minutes since 1/1/1970 00:00.
+     * @return Position of the first task starting at or after the minute, or the number of tasks if there is none.
+     */
+    public int findFirstPositionFrom(long epochMinute) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (startMinutes[middle] < epochMinute) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns new tasks holding the details of all tasks in the columns, in the order they were added.
+     *
+     * @return ArrayList of the tasks.
+     */
+    public ArrayList<Task> getTasks() {
+        ArrayList<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(getTask(i));
+        }
+        return tasks;
+    }
+
+    private static LocalDateTime toDateTime(int epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+}
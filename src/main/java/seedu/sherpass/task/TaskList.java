@@ -1,22 +1,40 @@
 package seedu.sherpass.task;
 
+import seedu.sherpass.enums.ChangeType;
 import seedu.sherpass.enums.Frequency;
 import seedu.sherpass.exception.InvalidInputException;
 import seedu.sherpass.exception.TimeClashException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
+import static seedu.sherpass.constant.TimetableConstant.LAST_MINUTE_OF_DAY;
 
 public class TaskList {
     private ArrayList<Task> tasks;
-    private final HashSet<Integer> identifierList;
+    private final HashMap<Integer, ArrayList<Task>> tasksBySeries;
+    private long nextIdentifier = 0;
+    private final TreeMap<LocalDate, ArrayList<Task>> tasksByDay = new TreeMap<>();
+    private final ArrayList<TaskChange> pendingChanges = new ArrayList<>();
+    private final TreeMap<YearMonth, Integer> unloadedTaskCounts = new TreeMap<>();
+    private final TreeMap<YearMonth, Integer> unloadedPendingCounts = new TreeMap<>();
+    private final TreeMap<YearMonth, TaskColumns> archivedMonths = new TreeMap<>();
+    private PartitionLoader partitionLoader;
+    private final TreeMap<YearMonth, TaskColumns> snapshotMonths = new TreeMap<>();
+    private final TreeSet<YearMonth> changedMonths = new TreeSet<>();
+    private volatile TaskListSnapshot snapshot = new TaskListSnapshot(0, new TreeMap<>(), new TreeMap<>());
 
     /**
      * Creates a constructor for the class TaskList.
@@ -25,24 +43,70 @@ public class TaskList {
      */
     public TaskList(ArrayList<Task> savedTasks) {
         tasks = savedTasks;
-        identifierList = new HashSet<>();
-        updateIndex();
+        tasksBySeries = new HashMap<>();
+        addToDayIndex(savedTasks);
+        tasks.sort(new TaskDateComparator());
+        refreshIndex();
+        publishSnapshot();
     }
 
     public TaskList() {
-        identifierList = new HashSet<>();
+        tasksBySeries = new HashMap<>();
         tasks = new ArrayList<>();
     }
 
     /**
-     * Returns the array of tasks in the class TaskList.
+     * Returns every task in the task list, in date order.
+     * Months that have not been loaded are loaded, except the archived months, whose tasks are read from
+     * their columns as new copies without moving the months back into the task list.
+     * The list returned is new, and changes to the copies are not kept, so it is only good for reading,
+     * e.g. to show or save the tasks.
+     *
+     * @return ArrayList of all tasks.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
+     */
+    public ArrayList<Task> getTasks() throws InvalidInputException {
+        loadUnarchivedPartitions();
+        ArrayList<Task> allTasks = new ArrayList<>(getSize());
+        int position = 0;
+        for (Map.Entry<YearMonth, TaskColumns> archivedMonth : archivedMonths.entrySet()) {
+            int firstPositionOfMonth = findFirstPositionFrom(archivedMonth.getKey().atDay(1).toEpochDay());
+            allTasks.addAll(tasks.subList(position, firstPositionOfMonth));
+            position = firstPositionOfMonth;
+            for (Task archivedTask : archivedMonth.getValue().getTasks()) {
+                archivedTask.setIndex(allTasks.size() + 1);
+                allTasks.add(archivedTask);
+            }
+        }
+        allTasks.addAll(tasks.subList(position, tasks.size()));
+        return allTasks;
+    }
+
+    /**
+     * Returns the tasks of the months that have been loaded, leaving out the archived months
+     * and any month not loaded from its partition, without loading them.
      *
-     * @return the array of tasks.
+     * @return the array of loaded tasks.
      */
-    public ArrayList<Task> getTasks() {
+    public ArrayList<Task> getLoadedTasks() {
         return tasks;
     }
 
+    /**
+     * Returns the tasks of the archived months without moving them back into the task list.
+     * The tasks are recreated from the columns of their months on every call,
+     * so they are only good for reading, e.g. to save them, and are dropped once no longer used.
+     *
+     * @return ArrayList of the archived tasks.
+     */
+    public ArrayList<Task> getArchivedTasks() {
+        ArrayList<Task> archivedTasks = new ArrayList<>();
+        for (TaskColumns archivedMonth : archivedMonths.values()) {
+            archivedTasks.addAll(archivedMonth.getTasks());
+        }
+        return archivedTasks;
+    }
+
     /**
      * Adds a new task to the current array of tasks.
      *
@@ -52,15 +116,177 @@ public class TaskList {
             TimeClashException {
         LocalDateTime lastRecurrenceDate = TaskUtil.getEndDateForRecurrence(newTask.getDoOnStartDateTime(),
                 frequency);
+        // Only the months the new tasks fall in are needed to check for clashes
+        loadPartitions(YearMonth.from(newTask.getDoOnStartDateTime()), YearMonth.from(lastRecurrenceDate));
         ArrayList<Task> taskListToAdd = new ArrayList<>();
+        if (frequency != Frequency.SINGLE) {
+            newTask.setRecurrenceRule(new RecurrenceRule(frequency, newTask.getDoOnStartDateTime(),
+                    newTask.getDoOnEndDateTime(), newTask.getByDateTime()));
+        }
         Task currentTask = newTask;
         do {
-            TaskUtil.checkDateTimeClash(tasks, currentTask, isFromFile, false);
             taskListToAdd.add(currentTask);
             currentTask = TaskUtil.prepareNextTask(currentTask, frequency);
         } while (currentTask.getDoOnStartDateTime().isBefore(lastRecurrenceDate));
-        tasks.addAll(taskListToAdd);
-        updateIndex();
+        checkBatchDateTimeClash(taskListToAdd, new ArrayList<>(), isFromFile, false);
+        int firstChangedPosition = insertTasks(taskListToAdd);
+        addToDayIndex(taskListToAdd);
+        recordChanges(ChangeType.PUT, taskListToAdd);
+        refreshIndexFrom(firstChangedPosition);
+        publishSnapshot();
+    }
+
+    /**
+     * Adds a batch of tasks loaded from a save file to the current array of tasks.
+     * Unlike adding the tasks one at a time, the tasks are sorted and indexed once,
+     * and clashes are found in a single sweep over the sorted tasks.
+     *
+     * @param loadedTasks The tasks to be added to the array.
+     * @throws InvalidInputException If any of the tasks has invalid dates, e.g. start date after end date.
+     * @throws TimeClashException    If any two tasks have clashing dates and times.
+     */
+    public void addTasksFromFile(ArrayList<Task> loadedTasks) throws InvalidInputException, TimeClashException {
+        for (Task task : loadedTasks) {
+            TaskUtil.checkValidDateTime(task, true, false);
+        }
+        ArrayList<Task> combinedTasks = mergeTasks(loadedTasks);
+        TaskUtil.checkSortedDateTimeClash(combinedTasks);
+        tasks = combinedTasks;
+        addToDayIndex(loadedTasks);
+        recordChanges(ChangeType.PUT, loadedTasks);
+        refreshIndex();
+        publishSnapshot();
+    }
+
+    private ArrayList<Task> mergeTasks(ArrayList<Task> loadedTasks) {
+        ArrayList<Task> combinedTasks = new ArrayList<>(tasks.size() + loadedTasks.size());
+        combinedTasks.addAll(tasks);
+        combinedTasks.addAll(loadedTasks);
+        combinedTasks.sort(new TaskDateComparator());
+        return combinedTasks;
+    }
+
+    /**
+     * Defers loading the tasks of some months until they are needed.
+     * Queries on a date or a month only load the month asked for,
+     * while anything else that works on all tasks loads every month.
+     * The number of tasks in each month that has not been loaded is used to keep the numbering of the loaded tasks
+     * the same as if every month had been loaded.
+     *
+     * @param partitionLoader       Loader of the tasks of a month.
+     * @param unloadedTaskCounts    Number of tasks in each month that has not been loaded.
+     * @param unloadedPendingCounts Number of pending tasks in each month that has not been loaded.
+     */
+    public void setPartitionLoader(PartitionLoader partitionLoader, Map<YearMonth, Integer> unloadedTaskCounts,
+                                   Map<YearMonth, Integer> unloadedPendingCounts) {
+        this.partitionLoader = partitionLoader;
+        this.unloadedTaskCounts.clear();
+        this.unloadedTaskCounts.putAll(unloadedTaskCounts);
+        this.unloadedPendingCounts.clear();
+        this.unloadedPendingCounts.putAll(unloadedPendingCounts);
+        refreshIndex();
+        publishSnapshot();
+    }
+
+    /**
+     * Loads the months within the given range that have not been loaded yet.
+     * The task list is only changed once every month has been read,
+     * so a month that cannot be loaded leaves the task list as it was.
+     *
+     * @param firstMonth The first month of the range.
+     * @param lastMonth  The last month of the range.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
+     */
+    private void loadPartitions(YearMonth firstMonth, YearMonth lastMonth) throws InvalidInputException {
+        loadMonths(new ArrayList<>(unloadedTaskCounts.subMap(firstMonth, true, lastMonth, true).keySet()));
+    }
+
+    /**
+     * Loads the months that have not been loaded, leaving the archived months in their columns.
+     *
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
+     */
+    private void loadUnarchivedPartitions() throws InvalidInputException {
+        ArrayList<YearMonth> monthsToLoad = new ArrayList<>(unloadedTaskCounts.keySet());
+        monthsToLoad.removeAll(archivedMonths.keySet());
+        loadMonths(monthsToLoad);
+    }
+
+    private void loadMonths(ArrayList<YearMonth> monthsToLoad) throws InvalidInputException {
+        if (monthsToLoad.isEmpty()) {
+            return;
+        }
+        ArrayList<Task> loadedTasks = new ArrayList<>();
+        for (YearMonth month : monthsToLoad) {
+            TaskColumns archivedTasks = archivedMonths.get(month);
+            loadedTasks.addAll(archivedTasks == null ? partitionLoader.loadPartition(month) : archivedTasks.getTasks());
+        }
+        archivedMonths.keySet().removeAll(monthsToLoad);
+        unloadedPendingCounts.keySet().removeAll(monthsToLoad);
+        unloadedTaskCounts.keySet().removeAll(monthsToLoad);
+        tasks = mergeTasks(loadedTasks);
+        addToDayIndex(loadedTasks);
+        refreshIndex();
+        publishSnapshot();
+    }
+
+    private void loadAllPartitions() throws InvalidInputException {
+        if (!unloadedTaskCounts.isEmpty()) {
+            loadPartitions(unloadedTaskCounts.firstKey(), unloadedTaskCounts.lastKey());
+        }
+    }
+
+    /**
+     * Moves the tasks starting before the given month out of the task list into compact columns,
+     * one set of columns for each month. Past tasks are seldom looked at, so they are kept as primitive values
+     * instead of task objects, which take up far more memory.
+     * An archived month is loaded back into the task list in the same way as a month that has not been loaded,
+     * so the numbering of the tasks stays the same, but only by commands which change one of its tasks.
+     * Reading all tasks, e.g. to show or save them, reads the columns instead.
+     * A month loaded back is archived again by the next call.
+     *
+     * @param month The first month whose tasks stay in the task list.
+     * @return ArrayList of the tasks moved out of the task list, which should no longer be referenced elsewhere.
+     */
+    public ArrayList<Task> archiveMonthsBefore(YearMonth month) {
+        long firstDayOfMonth = month.atDay(1).toEpochDay();
+        int archivedCount = 0;
+        while (archivedCount < tasks.size() && tasks.get(archivedCount).getDoOnEpochDay() < firstDayOfMonth) {
+            archivedCount++;
+        }
+        if (archivedCount == 0) {
+            return new ArrayList<>();
+        }
+        List<Task> tasksToArchive = tasks.subList(0, archivedCount);
+        ArrayList<Task> archivedTasks = new ArrayList<>(tasksToArchive);
+        for (Task task : archivedTasks) {
+            removeFromSeriesIndex(task);
+        }
+        for (Task task : tasksToArchive) {
+            YearMonth taskMonth = YearMonth.from(task.getDoOnStartDateTime());
+            archivedMonths.computeIfAbsent(taskMonth, key -> new TaskColumns()).add(task);
+            changedMonths.add(taskMonth);
+        }
+        for (Map.Entry<YearMonth, TaskColumns> archivedMonth : archivedMonths.headMap(month).entrySet()) {
+            unloadedTaskCounts.put(archivedMonth.getKey(), archivedMonth.getValue().size());
+            unloadedPendingCounts.put(archivedMonth.getKey(), archivedMonth.getValue().getPendingCount());
+        }
+        tasksByDay.headMap(month.atDay(1)).clear();
+        tasksToArchive.clear();
+        refreshIndexFrom(0);
+        publishSnapshot();
+        return archivedTasks;
+    }
+
+    /**
+     * Returns true if any task in the task list starts before the given month, i.e. if
+     * {@link #archiveMonthsBefore(YearMonth)} has any task to archive.
+     *
+     * @param month The first month whose tasks stay in the task list.
+     * @return true if any loaded task starts before the month.
+     */
+    public boolean hasTasksBefore(YearMonth month) {
+        return !tasks.isEmpty() && tasks.get(0).getDoOnEpochDay() < month.atDay(1).toEpochDay();
     }
 
     /**
@@ -80,10 +306,10 @@ public class TaskList {
                                LocalDateTime doOnEndDateTime,
                                LocalDateTime byDateTime,
                                boolean isEditByOnly) throws TimeClashException, InvalidInputException {
-
-        Task taskToEdit = tasks.get(editIndex);
-        ArrayList<Task> tempList = new ArrayList<>(tasks);
-        tempList.remove(editIndex);
+        // The month the task moves to is loaded first, as loading it may shift the position of the task
+        loadPartitions(YearMonth.from(doOnStartDateTime), YearMonth.from(doOnStartDateTime));
+        int editPosition = loadTaskAt(editIndex);
+        Task taskToEdit = tasks.get(editPosition);
 
         long startDateOffset = TaskUtil.calculateOffsetOfDate(taskToEdit.getDoOnStartDateTime(), doOnStartDateTime);
         long endDateOffset = TaskUtil.calculateOffsetOfDate(taskToEdit.getDoOnEndDateTime(), doOnEndDateTime);
@@ -92,12 +318,23 @@ public class TaskList {
         Task updatedTask = taskToEdit.copy();
         updatedTask.editTask(generateIdentifier(), taskDescription,
                 startDateOffset, endDateOffset, byDateOffset);
+        // The edited task no longer belongs to its recurring task
+        updatedTask.setRecurrenceRule(null);
 
-        TaskUtil.checkDateTimeClash(tempList, updatedTask, false, isEditByOnly);
+        ArrayList<Task> replacedTasks = new ArrayList<>();
+        replacedTasks.add(taskToEdit);
+        ArrayList<Task> updatedTasks = new ArrayList<>();
+        updatedTasks.add(updatedTask);
+        checkBatchDateTimeClash(updatedTasks, replacedTasks, false, isEditByOnly);
 
-        tasks.remove(editIndex);
-        tasks.add(updatedTask);
-        updateIndex();
+        removeTaskAt(editPosition);
+        int insertedPosition = insertTask(updatedTask);
+        removeFromDayIndex(taskToEdit);
+        addToDayIndex(updatedTask);
+        recordChange(ChangeType.REMOVE, taskToEdit);
+        recordChange(ChangeType.PUT, updatedTask);
+        refreshIndexFrom(Math.min(editPosition, insertedPosition));
+        publishSnapshot();
         return updatedTask;
     }
 
@@ -118,48 +355,288 @@ public class TaskList {
                                   LocalDateTime doOnEndDateTime,
                                   LocalDateTime byDateTime,
                                   boolean isEditByOnly) throws TimeClashException, InvalidInputException {
-        Task firstTask = getTask(editIndex);
-        ArrayList<Task> affectedTasks = getAffectedTasks(editIndex);
-        ArrayList<Task> tempList = new ArrayList<>(tasks);
-        ArrayList<Task> editedTasks = new ArrayList<>();
-        assert (affectedTasks.size() > 0);
-        tempList.removeAll(affectedTasks);
-
+        // The months the occurrences move to are loaded first, as loading them may shift the position of the task
+        YearMonth editedMonth = YearMonth.from(doOnStartDateTime);
+        if (!unloadedTaskCounts.isEmpty() && !unloadedTaskCounts.lastKey().isBefore(editedMonth)) {
+            loadPartitions(editedMonth, unloadedTaskCounts.lastKey());
+        }
+        int editPosition = loadTaskAt(editIndex);
+        Task firstTask = tasks.get(editPosition);
         long startDateOffset = TaskUtil.calculateOffsetOfDate(firstTask.getDoOnStartDateTime(), doOnStartDateTime);
         long endDateOffset = TaskUtil.calculateOffsetOfDate(firstTask.getDoOnEndDateTime(), doOnEndDateTime);
         long byDateOffset = TaskUtil.calculateOffsetOfDate(doOnStartDateTime, byDateTime);
+        if (startDateOffset == 0 && endDateOffset == 0 && byDateTime == null) {
+            return editSeriesDescription(editPosition, taskDescription, isEditByOnly);
+        }
+
+        ArrayList<Task> affectedTasks = getOccurrencesFrom(editPosition);
+        ArrayList<Task> editedTasks = new ArrayList<>();
+        assert (affectedTasks.size() > 0);
 
         int newIdentifier = generateIdentifier();
+        RecurrenceRule editedRule = null;
         for (Task t : affectedTasks) {
             Task updatedTask = t.copy();
             updatedTask.editTask(newIdentifier, taskDescription,
                     startDateOffset, endDateOffset, byDateOffset);
             updatedTask.setIdentifier(newIdentifier);
-            TaskUtil.checkDateTimeClash(tempList, updatedTask, false, isEditByOnly);
+            if (editedRule == null && t.getRecurrenceRule() != null) {
+                // The edited occurrences recur from the first edited occurrence onwards
+                editedRule = new RecurrenceRule(t.getRecurrenceRule().getFrequency(),
+                        updatedTask.getDoOnStartDateTime(), updatedTask.getDoOnEndDateTime(),
+                        updatedTask.getByDateTime());
+            }
+            updatedTask.setRecurrenceRule(editedRule);
             editedTasks.add(updatedTask);
-            tempList.add(updatedTask);
         }
+        checkBatchDateTimeClash(editedTasks, affectedTasks, false, isEditByOnly);
 
-        tasks = tempList;
-        updateIndex();
+        Set<Task> affectedTaskSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        affectedTaskSet.addAll(affectedTasks);
+        tasks.removeIf(affectedTaskSet::contains);
+        for (Task t : affectedTasks) {
+            removeFromSeriesIndex(t);
+            removeFromDayIndex(t);
+        }
+        int firstChangedPosition = Math.min(editPosition, insertTasks(editedTasks));
+        addToDayIndex(editedTasks);
+        recordChanges(ChangeType.REMOVE, affectedTasks);
+        recordChanges(ChangeType.PUT, editedTasks);
+        refreshIndexFrom(firstChangedPosition);
+        publishSnapshot();
         return editedTasks.get(0);
     }
 
+    /**
+     * Checks new or edited tasks for clashes with each other and with the other tasks on the days they start on,
+     * in a single sweep over the tasks of those days merged in date order.
+     * The tasks being replaced by the edited tasks are left out, and every clash found is reported.
+     * Only the days of the tasks to check are looked at, so checking the occurrences of a recurring task
+     * takes time in proportion to the occurrences and the tasks on their days, rather than to the whole task list
+     * for each occurrence.
+     *
+     * @param tasksToCheck  The new or edited tasks, in date order.
+     * @param replacedTasks The tasks to be replaced by the edited tasks.
+     * @param isFromFile    boolean value checking if the tasks are from a save file.
+     * @param isEditByOnly  boolean value checking if only the by date of the tasks is edited.
+     * @throws TimeClashException    If any of the tasks clashes with another task.
+     * @throws InvalidInputException If the dates and times of any of the tasks are invalid.
+     */
+    private void checkBatchDateTimeClash(ArrayList<Task> tasksToCheck, ArrayList<Task> replacedTasks,
+                                         boolean isFromFile, boolean isEditByOnly)
+            throws TimeClashException, InvalidInputException {
+        for (Task task : tasksToCheck) {
+            TaskUtil.checkValidDateTime(task, isFromFile, isEditByOnly);
+        }
+        Set<Task> replacedTaskSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        replacedTaskSet.addAll(replacedTasks);
+        ArrayList<Task> sweptTasks = new ArrayList<>();
+        int firstOfDay = 0;
+        while (firstOfDay < tasksToCheck.size()) {
+            long epochDay = tasksToCheck.get(firstOfDay).getDoOnEpochDay();
+            int afterLastOfDay = firstOfDay;
+            while (afterLastOfDay < tasksToCheck.size()
+                    && tasksToCheck.get(afterLastOfDay).getDoOnEpochDay() == epochDay) {
+                afterLastOfDay++;
+            }
+            ArrayList<Task> otherTasksOnDay = new ArrayList<>(tasksByDay.getOrDefault(LocalDate.ofEpochDay(epochDay),
+                    new ArrayList<>()));
+            otherTasksOnDay.removeIf(replacedTaskSet::contains);
+            mergeByStart(otherTasksOnDay, tasksToCheck.subList(firstOfDay, afterLastOfDay), sweptTasks);
+            firstOfDay = afterLastOfDay;
+        }
+        Set<Task> tasksToCheckSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        tasksToCheckSet.addAll(tasksToCheck);
+        TaskUtil.checkSortedDateTimeClashes(sweptTasks, tasksToCheckSet);
+    }
+
+    private static void mergeByStart(List<Task> firstTasks, List<Task> secondTasks, ArrayList<Task> mergedTasks) {
+        int i = 0;
+        int j = 0;
+        while (i < firstTasks.size() || j < secondTasks.size()) {
+            if (j == secondTasks.size() || (i < firstTasks.size()
+                    && firstTasks.get(i).getDoOnStartMinute() <= secondTasks.get(j).getDoOnStartMinute())) {
+                mergedTasks.add(firstTasks.get(i++));
+            } else {
+                mergedTasks.add(secondTasks.get(j++));
+            }
+        }
+    }
+
+    /**
+     * Changes the description of an occurrence of a recurring task and its later occurrences,
+     * which split off into a new series.
+     * As none of their dates change, the occurrences cannot clash with other tasks and keep their places
+     * in the task list, so they are edited in place instead of being replaced by edited copies.
+     * The occurrences are still checked for invalid dates in the same way as any other edit,
+     * e.g. an occurrence in the past cannot be edited.
+     *
+     * @param position        Position of the occurrence in the loaded tasks.
+     * @param taskDescription The new task description.
+     * @param isEditByOnly    boolean value checking if only the by date of the tasks is edited.
+     * @return The first edited occurrence.
+     * @throws InvalidInputException If the dates and times of any of the occurrences are invalid,
+     *                               or the saved tasks of a month cannot be loaded.
+     */
+    private Task editSeriesDescription(int position, String taskDescription, boolean isEditByOnly)
+            throws InvalidInputException {
+        Task firstTask = tasks.get(position);
+        loadMonthsAfter(firstTask);
+        ArrayList<Task> series = tasksBySeries.get(firstTask.getIdentifier());
+        RecurrenceRule firstRule = firstTask.getRecurrenceRule();
+        RecurrenceRule editedRule = firstRule == null ? null : new RecurrenceRule(firstRule.getFrequency(),
+                firstTask.getDoOnStartDateTime(), firstTask.getDoOnEndDateTime(), firstTask.getByDateTime());
+        if (series.get(0) == firstTask && !firstTask.isDone()
+                && series.size() == firstTask.getSeries().getOccurrenceCount()) {
+            TaskUtil.checkValidDateTime(firstTask, false, isEditByOnly);
+            renameSeries(series, taskDescription, editedRule);
+            return firstTask;
+        }
+        ArrayList<Task> affectedTasks = new ArrayList<>(series.subList(findTaskPosition(series, firstTask),
+                series.size()));
+        for (Task t : affectedTasks) {
+            TaskUtil.checkValidDateTime(t, false, isEditByOnly);
+        }
+        int newIdentifier = generateIdentifier();
+        for (Task t : affectedTasks) {
+            removeFromSeriesIndex(t);
+            t.editTask(newIdentifier, taskDescription, 0, 0, 0);
+            t.setRecurrenceRule(editedRule);
+            addToSeriesIndex(t);
+            changedMonths.add(YearMonth.from(t.getDoOnStartDateTime()));
+        }
+        recordChanges(ChangeType.PUT, affectedTasks);
+        publishSnapshot();
+        return firstTask;
+    }
+
+    /**
+     * Renames every occurrence of a recurring task at once by editing the series they all share,
+     * so the time taken does not grow with the number of occurrences.
+     * Only the first occurrence is checked for invalid dates, as it is not done yet and the dates
+     * of the later occurrences, which were checked when they were added, do not change.
+     * A single change is recorded, covering the months from the first occurrence to the last.
+     *
+     * @param series          All occurrences of the recurring task, in date order.
+     * @param taskDescription The new task description.
+     * @param editedRule      The recurrence rule starting from the first occurrence.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
+     */
+    private void renameSeries(ArrayList<Task> series, String taskDescription, RecurrenceRule editedRule)
+            throws InvalidInputException {
+        Task firstTask = series.get(0);
+        Task lastTask = series.get(series.size() - 1);
+        TaskSeries sharedSeries = firstTask.getSeries();
+        int previousIdentifier = sharedSeries.getIdentifier();
+        String newDescription = taskDescription.isBlank() ? sharedSeries.getDescription() : taskDescription;
+        sharedSeries.edit(generateIdentifier(), newDescription, editedRule);
+        tasksBySeries.remove(previousIdentifier);
+        tasksBySeries.put(sharedSeries.getIdentifier(), series);
+        YearMonth lastMonth = YearMonth.from(lastTask.getDoOnStartDateTime());
+        for (YearMonth month = YearMonth.from(firstTask.getDoOnStartDateTime()); !month.isAfter(lastMonth);
+                month = month.plusMonths(1)) {
+            changedMonths.add(month);
+        }
+        pendingChanges.add(new TaskChange(ChangeType.RENAME, firstTask, lastTask, previousIdentifier));
+        publishSnapshot();
+    }
+
     /**
      * Returns an ArrayList of tasks that are going to be edited.
      *
      * @param index The index of the task specified by the user
      * @return ArrayList of task that will be edited
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
+     */
+    public ArrayList<Task> getAffectedTasks(int index) throws InvalidInputException {
+        int position = loadTaskAt(index);
+        return getOccurrencesFrom(position);
+    }
+
+    /**
+     * Returns the occurrence at the given position among the loaded tasks and the later occurrences of its task.
+     * Only the months after the occurrence are loaded, so the position of the occurrence does not change.
+     *
+     * @param position Position of the occurrence in the loaded tasks.
+     * @return ArrayList of the occurrence and its later occurrences, in date order.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
+     */
+    private ArrayList<Task> getOccurrencesFrom(int position) throws InvalidInputException {
+        Task taskToEdit = tasks.get(position);
+        loadMonthsAfter(taskToEdit);
+        ArrayList<Task> series = tasksBySeries.get(taskToEdit.getIdentifier());
+        return new ArrayList<>(series.subList(findTaskPosition(series, taskToEdit), series.size()));
+    }
+
+    /**
+     * Loads the months after the month of a loaded task, which may hold its later occurrences.
+     * The position of the task does not change.
+     *
+     * @param task A loaded task.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
      */
-    public ArrayList<Task> getAffectedTasks(int index) {
-        Task taskToEdit = tasks.get(index);
-        ArrayList<Task> result = new ArrayList<>();
-        for (Task t : tasks) {
-            if (t.getIdentifier() == taskToEdit.getIdentifier() && t.getIndex() >= taskToEdit.getIndex()) {
-                result.add(t);
+    private void loadMonthsAfter(Task task) throws InvalidInputException {
+        YearMonth monthOfTask = YearMonth.from(task.getDoOnStartDateTime());
+        if (!unloadedTaskCounts.isEmpty() && unloadedTaskCounts.lastKey().isAfter(monthOfTask)) {
+            loadPartitions(monthOfTask, unloadedTaskCounts.lastKey());
+        }
+    }
+
+    /**
+     * Returns all occurrences of the task at the given index, in date order.
+     * A task that does not recur is the only occurrence of its series.
+     * The occurrences in archived months are read from their columns as new copies, in the same way as
+     * {@link #getTasks()}, so only the occurrences are copied and the months stay archived.
+     *
+     * @param index Index of any occurrence of the task.
+     * @return ArrayList of the occurrences of the task.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
+     */
+    public ArrayList<Task> getSeries(int index) throws InvalidInputException {
+        loadUnarchivedPartitions();
+        TreeMap<YearMonth, Integer> firstIndexes = getFirstIndexesOfArchivedMonths();
+        Integer identifier = null;
+        int archivedTasksBefore = 0;
+        for (Map.Entry<YearMonth, Integer> firstIndex : firstIndexes.entrySet()) {
+            TaskColumns archivedTasks = archivedMonths.get(firstIndex.getKey());
+            if (index < firstIndex.getValue()) {
+                break;
+            }
+            if (index < firstIndex.getValue() + archivedTasks.size()) {
+                identifier = archivedTasks.getIdentifier(index - firstIndex.getValue());
+                break;
             }
+            archivedTasksBefore += archivedTasks.size();
+        }
+        if (identifier == null) {
+            identifier = tasks.get(index - archivedTasksBefore).getIdentifier();
+        }
+        ArrayList<Task> series = new ArrayList<>();
+        for (Map.Entry<YearMonth, Integer> firstIndex : firstIndexes.entrySet()) {
+            series.addAll(archivedMonths.get(firstIndex.getKey()).getTasksOfSeries(identifier,
+                    firstIndex.getValue() + 1));
         }
-        return result;
+        series.addAll(tasksBySeries.getOrDefault(identifier, new ArrayList<>()));
+        series.sort(new TaskDateComparator());
+        return series;
+    }
+
+    /**
+     * Returns the index of the first task of each archived month, counting from 0.
+     * Every month that has not been loaded must be archived, so the tasks before an archived month are
+     * the loaded tasks before it and the tasks of the archived months before it.
+     *
+     * @return Index of the first task of each archived month.
+     */
+    private TreeMap<YearMonth, Integer> getFirstIndexesOfArchivedMonths() {
+        TreeMap<YearMonth, Integer> firstIndexes = new TreeMap<>();
+        int archivedTasksBefore = 0;
+        for (Map.Entry<YearMonth, TaskColumns> archivedMonth : archivedMonths.entrySet()) {
+            firstIndexes.put(archivedMonth.getKey(),
+                    findFirstPositionFrom(archivedMonth.getKey().atDay(1).toEpochDay()) + archivedTasksBefore);
+            archivedTasksBefore += archivedMonth.getValue().size();
+        }
+        return firstIndexes;
     }
 
     /**
@@ -167,9 +644,15 @@ public class TaskList {
      * Index corresponds to its placement within the task array.
      *
      * @param markIndex Index of the task to mark as done.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
      */
-    public void markTask(int markIndex) {
-        tasks.get(markIndex).markAsDone();
+    public void markTask(int markIndex) throws InvalidInputException {
+        int markPosition = loadTaskAt(markIndex);
+        Task taskToMark = tasks.get(markPosition);
+        taskToMark.markAsDone();
+        recordChange(ChangeType.PUT, taskToMark);
+        changedMonths.add(YearMonth.from(taskToMark.getDoOnStartDateTime()));
+        publishSnapshot();
     }
 
     /**
@@ -177,17 +660,85 @@ public class TaskList {
      * Index corresponds to its placement within the task array.
      *
      * @param markIndex Index of the task to mark as undone.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
      */
-    public void unmarkTask(int markIndex) {
-        tasks.get(markIndex).markAsUndone();
+    public void unmarkTask(int markIndex) throws InvalidInputException {
+        int markPosition = loadTaskAt(markIndex);
+        Task taskToUnmark = tasks.get(markPosition);
+        taskToUnmark.markAsUndone();
+        recordChange(ChangeType.PUT, taskToUnmark);
+        changedMonths.add(YearMonth.from(taskToUnmark.getDoOnStartDateTime()));
+        publishSnapshot();
     }
 
+    /**
+     * Returns the number of tasks, counting the tasks of the months that have not been loaded
+     * without loading them.
+     *
+     * @return The number of tasks.
+     */
     public int getSize() {
-        return tasks.size();
+        int size = tasks.size();
+        for (int unloadedTaskCount : unloadedTaskCounts.values()) {
+            size += unloadedTaskCount;
+        }
+        return size;
+    }
+
+    public Task getTask(int index) throws InvalidInputException {
+        int position = loadTaskAt(index);
+        return tasks.get(position);
+    }
+
+    /**
+     * Loads the month holding the task at the given index, if that month has not been loaded,
+     * and returns the position of the task among the loaded tasks.
+     * Only the one month is loaded, so commands on a single task do not load every month.
+     * An index outside the task list gives a position outside the loaded tasks.
+     *
+     * @param index Index of the task, counting the tasks of every month.
+     * @return Position of the task in the loaded tasks.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
+     */
+    private int loadTaskAt(int index) throws InvalidInputException {
+        int unloadedTasksBefore = 0;
+        YearMonth monthToLoad = null;
+        for (Map.Entry<YearMonth, Integer> unloadedMonth : unloadedTaskCounts.entrySet()) {
+            int firstIndexOfMonth = findFirstPositionFrom(unloadedMonth.getKey().atDay(1).toEpochDay())
+                    + unloadedTasksBefore;
+            if (index < firstIndexOfMonth) {
+                break;
+            }
+            if (index < firstIndexOfMonth + unloadedMonth.getValue()) {
+                monthToLoad = unloadedMonth.getKey();
+                break;
+            }
+            unloadedTasksBefore += unloadedMonth.getValue();
+        }
+        if (monthToLoad != null) {
+            loadPartitions(monthToLoad, monthToLoad);
+        }
+        return index - unloadedTasksBefore;
     }
 
-    public Task getTask(int index) {
-        return tasks.get(index);
+    /**
+     * Returns the position of the first loaded task starting on or after the given day.
+     *
+     * @param epochDay The day as the number of days since 1/1/1970.
+     * @return Position of the first task starting on or after the day, or the number of loaded tasks if there is none.
+     */
+    private int findFirstPositionFrom(long epochDay) {
+        int low = 0;
+        int high = tasks.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (tasks.get(middle).getDoOnEpochDay() < epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
     }
 
     /**
@@ -195,16 +746,28 @@ public class TaskList {
      * in task array.
      *
      * @param deleteIndex Index of a task to search for.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
      */
-    public void removeTask(int deleteIndex, boolean isRepeat) {
-        Task taskToBeRemoved = tasks.get(deleteIndex);
+    public void removeTask(int deleteIndex, boolean isRepeat) throws InvalidInputException {
+        int deletePosition = loadTaskAt(deleteIndex);
+        Task taskToBeRemoved = tasks.get(deletePosition);
         if (!isRepeat) {
-            tasks.remove(deleteIndex);
+            removeTaskAt(deletePosition);
+            removeFromDayIndex(taskToBeRemoved);
+            recordChange(ChangeType.REMOVE, taskToBeRemoved);
         } else {
-            int identifier = taskToBeRemoved.getIdentifier();
-            tasks.removeIf(task -> task.getIdentifier() == identifier && task.getIndex() >= taskToBeRemoved.getIndex());
+            ArrayList<Task> affectedTasks = getOccurrencesFrom(deletePosition);
+            Set<Task> affectedTaskSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            affectedTaskSet.addAll(affectedTasks);
+            tasks.subList(deletePosition, tasks.size()).removeIf(affectedTaskSet::contains);
+            for (Task task : affectedTasks) {
+                removeFromSeriesIndex(task);
+                removeFromDayIndex(task);
+                recordChange(ChangeType.REMOVE, task);
+            }
         }
-        updateIndex();
+        refreshIndexFrom(deletePosition);
+        publishSnapshot();
     }
 
     /**
@@ -212,56 +775,460 @@ public class TaskList {
      */
     public void deleteAllTasks() {
         tasks.clear();
-        identifierList.clear();
+        tasksBySeries.clear();
+        tasksByDay.clear();
+        archivedMonths.clear();
+        unloadedTaskCounts.clear();
+        unloadedPendingCounts.clear();
+        pendingChanges.clear();
+        snapshotMonths.clear();
+        changedMonths.clear();
+        recordChange(ChangeType.CLEAR, null);
+        publishSnapshot();
     }
 
-    public int generateIdentifier() {
-        Random generator = new Random();
-        int candidate;
-        do {
-            candidate = generator.nextInt(65536);
-        } while (identifierList.contains(candidate));
+    /**
+     * Returns the latest snapshot of the tasks of each month, which is published after every change to the task list.
+     * Unlike the task list itself, the snapshot can be read from other threads, e.g. by the timer,
+     * while the task list is being changed, without locking.
+     *
+     * @return The latest snapshot of the task list.
+     */
+    public TaskListSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Publishes a new snapshot of the task list.
+     * Only the months changed since the last snapshot are copied into new columns, while the columns of the other
+     * months are shared with the last snapshot, so a change costs time in proportion to the tasks of the months
+     * it touches. The number of the first task of each month is worked out again, as any change may renumber
+     * the tasks of later months.
+     */
+    private void publishSnapshot() {
+        for (YearMonth month : changedMonths) {
+            TaskColumns monthlyTasks = new TaskColumns();
+            for (ArrayList<Task> tasksOnDay : tasksByDay.subMap(month.atDay(1), true,
+                    month.atEndOfMonth(), true).values()) {
+                for (Task task : tasksOnDay) {
+                    monthlyTasks.add(task);
+                }
+            }
+            if (monthlyTasks.size() == 0) {
+                snapshotMonths.remove(month);
+            } else {
+                snapshotMonths.put(month, monthlyTasks);
+            }
+        }
+        changedMonths.clear();
+        TreeMap<YearMonth, Integer> firstIndexes = new TreeMap<>();
+        Iterator<Map.Entry<YearMonth, Integer>> unloadedMonths = unloadedTaskCounts.entrySet().iterator();
+        Map.Entry<YearMonth, Integer> unloadedMonth = unloadedMonths.hasNext() ? unloadedMonths.next() : null;
+        int nextIndex = 1;
+        for (Map.Entry<YearMonth, TaskColumns> loadedMonth : snapshotMonths.entrySet()) {
+            while (unloadedMonth != null && unloadedMonth.getKey().isBefore(loadedMonth.getKey())) {
+                nextIndex += unloadedMonth.getValue();
+                unloadedMonth = unloadedMonths.hasNext() ? unloadedMonths.next() : null;
+            }
+            firstIndexes.put(loadedMonth.getKey(), nextIndex);
+            nextIndex += loadedMonth.getValue().size();
+        }
+        snapshot = new TaskListSnapshot(snapshot.getVersion() + 1, new TreeMap<>(snapshotMonths), firstIndexes);
+    }
+
+    /**
+     * Adds a task to the list of tasks on the day it starts, after any tasks starting at the same time or earlier,
+     * so that the tasks of each day stay in the same order as in the task list.
+     * The month of the task is copied into the next snapshot.
+     *
+     * @param task Task to be added.
+     */
+    private void addToDayIndex(Task task) {
+        LocalDate day = task.getDoOnStartDateTime().toLocalDate();
+        ArrayList<Task> tasksOnDay = tasksByDay.computeIfAbsent(day, key -> new ArrayList<>());
+        tasksOnDay.add(findInsertPosition(tasksOnDay, task), task);
+        changedMonths.add(YearMonth.from(day));
+    }
+
+    private void addToDayIndex(ArrayList<Task> tasksToAdd) {
+        for (Task task : tasksToAdd) {
+            addToDayIndex(task);
+        }
+    }
+
+    private void removeFromDayIndex(Task task) {
+        LocalDate day = task.getDoOnStartDateTime().toLocalDate();
+        ArrayList<Task> tasksOnDay = tasksByDay.get(day);
+        int position = tasksOnDay == null ? -1 : findTaskPosition(tasksOnDay, task);
+        if (position < 0) {
+            return;
+        }
+        tasksOnDay.remove(position);
+        if (tasksOnDay.isEmpty()) {
+            tasksByDay.remove(day);
+        }
+        changedMonths.add(YearMonth.from(day));
+    }
+
+    private void recordChange(ChangeType type, Task task) {
+        pendingChanges.add(new TaskChange(type, task));
+    }
+
+    private void recordChanges(ChangeType type, ArrayList<Task> changedTasks) {
+        for (Task task : changedTasks) {
+            recordChange(type, task);
+        }
+    }
+
+    /**
+     * Returns the changes made to the task list since the last call, in the order they were made.
+     * The recorded changes are cleared once returned.
+     *
+     * @return ArrayList of changes made to the task list.
+     */
+    public ArrayList<TaskChange> drainChanges() {
+        ArrayList<TaskChange> changes = new ArrayList<>(pendingChanges);
+        pendingChanges.clear();
+        return changes;
+    }
+
+    /**
+     * Returns an identifier that is not used by any task.
+     * Identifiers are given out in increasing order, starting after the largest identifier that has been used,
+     * so no search is needed. Only once every identifier up to the largest integer has been given out
+     * are the identifiers no longer in use searched for the smallest free one.
+     *
+     * @return An unused identifier.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
+     */
+    public int generateIdentifier() throws InvalidInputException {
+        if (nextIdentifier <= Integer.MAX_VALUE) {
+            return (int) nextIdentifier++;
+        }
+        loadAllPartitions();
+        int candidate = 0;
+        while (tasksBySeries.containsKey(candidate)) {
+            candidate++;
+        }
         return candidate;
     }
 
-    private void updateIndex() {
-        tasks.sort(new TaskDateComparator());
-        identifierList.clear();
-        int i = 1;
+    /**
+     * Returns the identifier that will be given to the next new task, to be kept in the save file.
+     *
+     * @return The next identifier.
+     */
+    public long getNextIdentifier() {
+        return nextIdentifier;
+    }
+
+    /**
+     * Continues giving out identifiers from a saved next identifier, unless a larger identifier is already in use.
+     *
+     * @param savedNextIdentifier The next identifier read from the save file.
+     */
+    public void setNextIdentifier(long savedNextIdentifier) {
+        nextIdentifier = Math.max(nextIdentifier, savedNextIdentifier);
+    }
+
+    /**
+     * Inserts a task into the task list after any tasks starting at the same time or earlier,
+     * keeping the task list in date order without sorting it again.
+     * The task numbers are not updated.
+     *
+     * @param task Task to be inserted.
+     * @return Position of the task in the task list.
+     */
+    private int insertTask(Task task) {
+        int position = findInsertPosition(tasks, task);
+        tasks.add(position, task);
+        addToSeriesIndex(task);
+        return position;
+    }
+
+    /**
+     * Inserts tasks sorted by date into the task list in a single merge, rather than one at a time,
+     * which would shift the later tasks once for every inserted task.
+     * Like {@link #insertTask(Task)}, each task is placed after any tasks already in the list
+     * starting at the same time or earlier. The task numbers are not updated.
+     *
+     * @param sortedTasks Tasks to be inserted, sorted by their start date and time.
+     * @return Position of the first inserted task in the task list.
+     */
+    private int insertTasks(ArrayList<Task> sortedTasks) {
+        if (sortedTasks.isEmpty()) {
+            return tasks.size();
+        }
+        int firstPosition = findInsertPosition(tasks, sortedTasks.get(0));
+        ArrayList<Task> mergedTasks = new ArrayList<>(tasks.size() + sortedTasks.size());
+        mergedTasks.addAll(tasks.subList(0, firstPosition));
+        int i = firstPosition;
+        for (Task task : sortedTasks) {
+            while (i < tasks.size() && tasks.get(i).getDoOnStartMinute() <= task.getDoOnStartMinute()) {
+                mergedTasks.add(tasks.get(i++));
+            }
+            mergedTasks.add(task);
+            addToSeriesIndex(task);
+        }
+        mergedTasks.addAll(tasks.subList(i, tasks.size()));
+        tasks = mergedTasks;
+        return firstPosition;
+    }
+
+    private void removeTaskAt(int position) {
+        removeFromSeriesIndex(tasks.remove(position));
+    }
+
+    /**
+     * Returns the position after the last task in a list sorted by date that starts at the same time as or earlier
+     * than the given task.
+     *
+     * @param sortedTasks Tasks sorted by their start date and time.
+     * @param task        Task to be placed in the list.
+     * @return Position at which the task should be inserted.
+     */
+    private static int findInsertPosition(ArrayList<Task> sortedTasks, Task task) {
+        int low = 0;
+        int high = sortedTasks.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedTasks.get(middle).getDoOnStartMinute() > task.getDoOnStartMinute()) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of a task in a list sorted by date, found by a binary search on its start date and time.
+     * The task is matched by identity, as different tasks may hold the same details.
+     *
+     * @param sortedTasks Tasks sorted by their start date and time.
+     * @param task        Task to be found.
+     * @return Position of the task in the list, or -1 if the task is not in the list.
+     */
+    private static int findTaskPosition(ArrayList<Task> sortedTasks, Task task) {
+        int low = 0;
+        int high = sortedTasks.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedTasks.get(middle).getDoOnStartMinute() < task.getDoOnStartMinute()) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int i = low; i < sortedTasks.size()
+                && sortedTasks.get(i).getDoOnStartMinute() == task.getDoOnStartMinute(); i++) {
+            if (sortedTasks.get(i) == task) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a task to the occurrences of its series, i.e. the tasks sharing its identifier, in date order.
+     * A task with the same description and recurrence rule as the other occurrences shares their series,
+     * e.g. an occurrence loaded from a save file.
+     *
+     * @param task Task to be added.
+     */
+    private void addToSeriesIndex(Task task) {
+        ArrayList<Task> series = tasksBySeries.computeIfAbsent(task.getIdentifier(), identifier -> new ArrayList<>());
+        if (!series.isEmpty()) {
+            task.shareSeries(series.get(0).getSeries());
+        }
+        series.add(findInsertPosition(series, task), task);
+        task.getSeries().addOccurrence();
+        nextIdentifier = Math.max(nextIdentifier, task.getIdentifier() + 1L);
+    }
+
+    private void removeFromSeriesIndex(Task task) {
+        ArrayList<Task> series = tasksBySeries.get(task.getIdentifier());
+        if (series == null) {
+            return;
+        }
+        int position = findTaskPosition(series, task);
+        if (position >= 0) {
+            series.remove(position);
+            task.getSeries().removeOccurrence();
+        }
+        if (series.isEmpty()) {
+            tasksBySeries.remove(task.getIdentifier());
+        }
+    }
+
+    private void refreshIndex() {
+        for (ArrayList<Task> series : tasksBySeries.values()) {
+            for (Task task : series) {
+                task.getSeries().removeOccurrence();
+            }
+        }
+        tasksBySeries.clear();
         for (Task task : tasks) {
+            addToSeriesIndex(task);
+        }
+        refreshIndexFrom(0);
+    }
+
+    /**
+     * Renumbers the tasks from a position in the task list onwards.
+     * The tasks before the position keep their numbers, as only the tasks after a change shift.
+     *
+     * @param firstPosition Position of the first task to be renumbered.
+     */
+    private void refreshIndexFrom(int firstPosition) {
+        int i = 1;
+        Map<YearMonth, Integer> monthsAfterPreviousTask = unloadedTaskCounts;
+        if (firstPosition > 0) {
+            Task previousTask = tasks.get(firstPosition - 1);
+            i = previousTask.getIndex() + 1;
+            monthsAfterPreviousTask = unloadedTaskCounts.tailMap(
+                    YearMonth.from(previousTask.getDoOnStartDateTime()), false);
+        }
+        Iterator<Map.Entry<YearMonth, Integer>> unloadedMonths = monthsAfterPreviousTask.entrySet().iterator();
+        Map.Entry<YearMonth, Integer> unloadedMonth = unloadedMonths.hasNext() ? unloadedMonths.next() : null;
+        long firstDayAfterUnloadedMonth = getFirstDayAfter(unloadedMonth);
+        for (Task task : tasks.subList(firstPosition, tasks.size())) {
+            while (firstDayAfterUnloadedMonth <= task.getDoOnEpochDay()) {
+                // Leaves room for the tasks of earlier months that have not been loaded
+                i += unloadedMonth.getValue();
+                unloadedMonth = unloadedMonths.hasNext() ? unloadedMonths.next() : null;
+                firstDayAfterUnloadedMonth = getFirstDayAfter(unloadedMonth);
+            }
             task.setIndex(i);
-            identifierList.add(task.getIdentifier());
             i++;
         }
     }
 
+    /**
+     * Returns the first day after an unloaded month as the number of days since 1/1/1970,
+     * so that it can be compared with the start date of each task without creating any objects.
+     *
+     * @param unloadedMonth The unloaded month and its number of tasks, or null if there is none.
+     * @return The first day after the month in days since the epoch, or Long.MAX_VALUE if there is no month.
+     */
+    private static long getFirstDayAfter(Map.Entry<YearMonth, Integer> unloadedMonth) {
+        if (unloadedMonth == null) {
+            return Long.MAX_VALUE;
+        }
+        return unloadedMonth.getKey().plusMonths(1).atDay(1).toEpochDay();
+    }
+
     /**
      * Returns a filtered ArrayList of task according to the date specified.
      *
      * @param dateInput The specific date.
      * @return The filtered ArrayList.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
      */
-    public ArrayList<Task> getFilteredTasksByDate(LocalDate dateInput) {
+    public ArrayList<Task> getFilteredTasksByDate(LocalDate dateInput) throws InvalidInputException {
+        loadPartitions(YearMonth.from(dateInput), YearMonth.from(dateInput));
+        return new ArrayList<>(tasksByDay.getOrDefault(dateInput, new ArrayList<>()));
+    }
+
+    /**
+     * Returns the tasks starting within a range of dates, in the same order as in the task list.
+     * Only the days within the range are looked at.
+     *
+     * @param firstDate     The first date of the range.
+     * @param dateAfterLast The date after the last date of the range.
+     * @return ArrayList of the tasks starting within the range.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
+     */
+    public ArrayList<Task> getFilteredTasksByDateRange(LocalDate firstDate, LocalDate dateAfterLast)
+            throws InvalidInputException {
         ArrayList<Task> filteredTasks = new ArrayList<>();
-        for (Task task : tasks) {
-            if (task.getDoOnStartDateTime().toLocalDate().isEqual(dateInput)) {
-                filteredTasks.add(task);
-            }
+        if (!dateAfterLast.isAfter(firstDate)) {
+            return filteredTasks;
+        }
+        loadPartitions(YearMonth.from(firstDate), YearMonth.from(dateAfterLast.minusDays(1)));
+        for (ArrayList<Task> tasksOnDay : tasksByDay.subMap(firstDate, true, dateAfterLast, false).values()) {
+            filteredTasks.addAll(tasksOnDay);
         }
         return filteredTasks;
     }
 
-    private boolean hasDoOnDate(Task task) {
-        return task.getDoOnStartDateTime() != null;
+    /**
+     * Returns the start of the earliest free slots of the given length, at most one in each gap between tasks.
+     * Each month of the range is loaded once, when the search reaches it, and only the days with tasks are looked up
+     * in the day index. A day without tasks is one gap, so it gives one slot at its start and is not searched,
+     * which keeps the search to the days with tasks and the slots found, however long the range is.
+     * The tasks of a day are in order of their start and do not overlap, so the gaps of a day are found
+     * in one pass over its tasks, and the search stops as soon as enough slots are found.
+     * A slot lies within one day, like a task added on that day, and does not clash with any task on that day.
+     *
+     * @param earliestStart   The earliest date and time a slot can start.
+     * @param lastDate        The last date a slot can be on.
+     * @param durationMinutes The length of each slot in minutes, which fits within a day.
+     * @param slotCount       The largest number of slots to find.
+     * @return ArrayList of the start of each slot found, in date order.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
+     */
+    public ArrayList<LocalDateTime> findFreeSlots(LocalDateTime earliestStart, LocalDate lastDate,
+                                                  long durationMinutes, int slotCount) throws InvalidInputException {
+        assert durationMinutes <= LAST_MINUTE_OF_DAY;
+        ArrayList<LocalDateTime> freeSlots = new ArrayList<>();
+        LocalDate day = earliestStart.toLocalDate();
+        while (!day.isAfter(lastDate) && freeSlots.size() < slotCount) {
+            YearMonth month = YearMonth.from(day);
+            loadPartitions(month, month);
+            LocalDate lastDayOfMonth = lastDate.isBefore(month.atEndOfMonth()) ? lastDate : month.atEndOfMonth();
+            for (Map.Entry<LocalDate, ArrayList<Task>> busyDay
+                    : tasksByDay.subMap(day, true, lastDayOfMonth, true).entrySet()) {
+                addSlotsOfFreeDays(freeSlots, day, busyDay.getKey(), earliestStart, durationMinutes, slotCount);
+                addSlotsOfDay(freeSlots, busyDay.getKey(), busyDay.getValue(), earliestStart, durationMinutes,
+                        slotCount);
+                if (freeSlots.size() == slotCount) {
+                    return freeSlots;
+                }
+                day = busyDay.getKey().plusDays(1);
+            }
+            addSlotsOfFreeDays(freeSlots, day, lastDayOfMonth.plusDays(1), earliestStart, durationMinutes, slotCount);
+            day = lastDayOfMonth.plusDays(1);
+        }
+        return freeSlots;
+    }
+
+    private void addSlotsOfFreeDays(ArrayList<LocalDateTime> freeSlots, LocalDate firstDay, LocalDate dayAfterLast,
+                                    LocalDateTime earliestStart, long durationMinutes, int slotCount) {
+        for (LocalDate day = firstDay; day.isBefore(dayAfterLast) && freeSlots.size() < slotCount;
+                day = day.plusDays(1)) {
+            addSlotsOfDay(freeSlots, day, new ArrayList<>(), earliestStart, durationMinutes, slotCount);
+        }
+    }
+
+    private void addSlotsOfDay(ArrayList<LocalDateTime> freeSlots, LocalDate day, ArrayList<Task> tasksOnDay,
+                               LocalDateTime earliestStart, long durationMinutes, int slotCount) {
+        LocalDateTime freeFrom = day.equals(earliestStart.toLocalDate()) ? earliestStart : day.atStartOfDay();
+        for (Task task : tasksOnDay) {
+            if (!freeFrom.plusMinutes(durationMinutes).isAfter(task.getDoOnStartDateTime())) {
+                freeSlots.add(freeFrom);
+                if (freeSlots.size() == slotCount) {
+                    return;
+                }
+            }
+            if (task.getDoOnEndDateTime().isAfter(freeFrom)) {
+                freeFrom = task.getDoOnEndDateTime();
+            }
+        }
+        if (!freeFrom.plusMinutes(durationMinutes).isAfter(day.atStartOfDay().plusMinutes(LAST_MINUTE_OF_DAY))) {
+            freeSlots.add(freeFrom);
+        }
     }
 
     /**
      * Returns an array of tasks that have not been marked as complete.
      *
+     * @return ArrayList of the pending tasks.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
      */
-    public ArrayList<Task> getPendingTasks() {
+    public ArrayList<Task> getPendingTasks() throws InvalidInputException {
         ArrayList<Task> filteredTasks = new ArrayList<>();
-        for (Task task : tasks) {
+        for (Task task : getTasks()) {
             if (!task.isDone()) {
                 filteredTasks.add(task);
             }
@@ -271,6 +1238,9 @@ public class TaskList {
 
     public int getPendingTasksCount() {
         int count = 0;
+        for (int unloadedPendingCount : unloadedPendingCounts.values()) {
+            count += unloadedPendingCount;
+        }
         for (Task task : tasks) {
             if (!task.isDone()) {
                 count++;
@@ -279,21 +1249,15 @@ public class TaskList {
         return count;
     }
 
-    public ArrayList<Task> getFilteredTasksByMonth(LocalDate firstDayOfMonth) {
-        LocalDate firstDayOfNextMonth = firstDayOfMonth.plusMonths(1);
-        ArrayList<Task> filteredTasks = new ArrayList<>();
-        for (Task task : tasks) {
-            if (hasDoOnDate(task) && task.getDoOnStartDateTime().toLocalDate().isEqual(firstDayOfMonth)) {
-                filteredTasks.add(task);
-            } else if (hasDoOnDate(task)
-                    && (task.getDoOnStartDateTime().toLocalDate().isAfter(firstDayOfMonth)
-                    && task.getDoOnStartDateTime().toLocalDate().isBefore(firstDayOfNextMonth))) {
-                filteredTasks.add(task);
-            }
-        }
-        return (ArrayList<Task>) filteredTasks.stream()
-                .sorted(Comparator.comparing(Task::getDoOnStartDateTime))
-                .collect(Collectors.toList());
+    /**
+     * Returns the tasks starting within a month, which are already in date order.
+     *
+     * @param firstDayOfMonth The first day of the month.
+     * @return ArrayList of the tasks starting within the month.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
+     */
+    public ArrayList<Task> getFilteredTasksByMonth(LocalDate firstDayOfMonth) throws InvalidInputException {
+        return getFilteredTasksByDateRange(firstDayOfMonth, firstDayOfMonth.plusMonths(1));
     }
     
 }
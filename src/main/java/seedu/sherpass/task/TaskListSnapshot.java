@@ -0,0 +1,83 @@
+package seedu.sherpass.task;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class TaskListSnapshot {
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private final long version;
+    private final TreeMap<YearMonth, TaskColumns> tasksByMonth;
+    private final TreeMap<YearMonth, Integer> firstIndexes;
+
+    /**
+     * Creates a snapshot of the tasks of each month in a task list.
+     * The snapshot holds its own copy of the details of the tasks, kept in columns for each month,
+     * and the number of the first task of each month. Neither the maps nor the columns are changed
+     * after the snapshot is created, so the snapshot can be read from any thread without locking,
+     * and a task marked as done or renumbered later is still shown as it was when the snapshot was taken.
+     * The columns of a month which has not changed are shared with the previous snapshot.
+     *
+     * @param version      Number of the snapshot, which increases with every snapshot of the task list.
+     * @param tasksByMonth Copy of the tasks of each loaded month, in date order.
+     * @param firstIndexes Number of the first task of each loaded month.
+     */
+    TaskListSnapshot(long version, TreeMap<YearMonth, TaskColumns> tasksByMonth,
+                     TreeMap<YearMonth, Integer> firstIndexes) {
+        this.version = version;
+        this.tasksByMonth = tasksByMonth;
+        this.firstIndexes = firstIndexes;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the tasks starting on the given date, in the same order as in the task list.
+     * Only the months which had been loaded when the snapshot was taken are included.
+     * The tasks are new copies, so changing them does not change the snapshot.
+     *
+     * @param dateInput The specific date.
+     * @return ArrayList of the tasks starting on the date.
+     */
+    public ArrayList<Task> getFilteredTasksByDate(LocalDate dateInput) {
+        return getFilteredTasksByDateRange(dateInput, dateInput.plusDays(1));
+    }
+
+    /**
+     * Returns the tasks starting within a range of dates, in the same order as in the task list.
+     *
+     * @param firstDate     The first date of the range.
+     * @param dateAfterLast The date after the last date of the range.
+     * @return ArrayList of the tasks starting within the range.
+     */
+    public ArrayList<Task> getFilteredTasksByDateRange(LocalDate firstDate, LocalDate dateAfterLast) {
+        ArrayList<Task> filteredTasks = new ArrayList<>();
+        if (!dateAfterLast.isAfter(firstDate)) {
+            return filteredTasks;
+        }
+        long firstMinute = toEpochMinute(firstDate);
+        long minuteAfterLast = toEpochMinute(dateAfterLast);
+        for (Map.Entry<YearMonth, TaskColumns> month : tasksByMonth.subMap(YearMonth.from(firstDate), true,
+                YearMonth.from(dateAfterLast.minusDays(1)), true).entrySet()) {
+            TaskColumns columns = month.getValue();
+            int firstIndex = firstIndexes.get(month.getKey());
+            int afterLastPosition = columns.findFirstPositionFrom(minuteAfterLast);
+            for (int i = columns.findFirstPositionFrom(firstMinute); i < afterLastPosition; i++) {
+                Task task = columns.getTask(i);
+                task.setIndex(firstIndex + i);
+                filteredTasks.add(task);
+            }
+        }
+        return filteredTasks;
+    }
+
+    private static long toEpochMinute(LocalDate date) {
+        return date.atStartOfDay().toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE;
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.sherpass.task;
+
+import java.util.Objects;
+
+public class TaskSeries {
+    private int identifier;
+    private String description;
+    private RecurrenceRule recurrenceRule;
+    private int version;
+    private int occurrenceCount;
+
+    /**
+     * Creates the details shared by the occurrences of a task, i.e. its identifier, description and recurrence rule.
+     * Occurrences sharing a series are renamed together by editing the series once,
+     * however many occurrences the task has.
+     *
+     * @param identifier     Identity number of the task.
+     * @param description    Description of the task.
+     * @param recurrenceRule Rule of the recurring task, or null if the task does not recur.
+     */
+    TaskSeries(int identifier, String description, RecurrenceRule recurrenceRule) {
+        this.identifier = identifier;
+        this.description = description;
+        this.recurrenceRule = recurrenceRule;
+    }
+
+    public int getIdentifier() {
+        return identifier;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public RecurrenceRule getRecurrenceRule() {
+        return recurrenceRule;
+    }
+
+    /**
+     * Returns the modification version of the series, which increases whenever it is edited.
+     *
+     * @return The modification version of the series.
+     */
+    int getVersion() {
+        return version;
+    }
+
+    /**
+     * Edits the details of every occurrence sharing the series.
+     *
+     * @param identifier     The new identifier of the task.
+     * @param description    The new description of the task.
+     * @param recurrenceRule The new rule of the recurring task.
+     */
+    void edit(int identifier, String description, RecurrenceRule recurrenceRule) {
+        this.identifier = identifier;
+        this.description = description;
+        this.recurrenceRule = recurrenceRule;
+        version++;
+    }
+
+    /**
+     * Returns the number of occurrences in a task list sharing the series.
+     * The task list counts the occurrences as it adds and removes them, so it can tell
+     * whether all of the occurrences with the identifier of the series share it.
+     *
+     * @return The number of occurrences sharing the series.
+     */
+    int getOccurrenceCount() {
+        return occurrenceCount;
+    }
+
+    void addOccurrence() {
+        occurrenceCount++;
+    }
+
+    void removeOccurrence() {
+        occurrenceCount--;
+    }
+
+    /**
+     * Returns true if the other series has the same identifier, description and recurrence rule,
+     * so the occurrences of both can share one series.
+     *
+     * @param other Series to be compared.
+     * @return true if both series have the same details.
+     */
+    boolean hasSameDetails(TaskSeries other) {
+        return identifier == other.identifier && description.equals(other.description)
+                && Objects.equals(recurrenceRule, other.recurrenceRule);
+    }
+}
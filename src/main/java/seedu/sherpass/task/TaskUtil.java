@@ -7,6 +7,10 @@ import seedu.sherpass.exception.TimeClashException;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import static seedu.sherpass.constant.Message.ERROR_BY_DATE_BEFORE_DO_ON_DATE;
 import static seedu.sherpass.constant.Message.ERROR_SCHEDULE_CLASH_MESSAGE;
@@ -15,7 +19,7 @@ import static seedu.sherpass.constant.Message.ERROR_START_DATE_IN_THE_PAST_MESSA
 
 public class TaskUtil {
     /**
-     * Returns a new task with the same identifier and description.
+     * Returns a new task sharing the identifier, description and recurrence rule of the current task.
      * The dates incremented according to the frequency.
      *
      * @param frequency The frequency of recurrence
@@ -30,8 +34,11 @@ public class TaskUtil {
         if (newByDate != null) {
             newByDate = incrementDate(newByDate, frequency);
         }
-        return new Task(currentTask.getIdentifier(), currentTask.getDescription(), newByDate,
+        Task nextTask = new Task(currentTask.getIdentifier(), currentTask.getDescription(), newByDate,
                 newStartDate, newEndDate);
+        nextTask.setRecurrenceRule(currentTask.getRecurrenceRule());
+        nextTask.shareSeries(currentTask.getSeries());
+        return nextTask;
     }
 
     /**
@@ -103,6 +110,39 @@ public class TaskUtil {
     public static void checkDateTimeClash(ArrayList<Task> taskList, Task taskToCheck,
                                           boolean isFromFile, boolean isEditByOnly)
             throws TimeClashException, InvalidInputException {
+        checkValidDateTime(taskToCheck, isFromFile, isEditByOnly);
+        for (Task task : taskList) {
+            if (isClashing(task, taskToCheck)) {
+                throw new TimeClashException(getClashMessage(task, taskToCheck));
+            }
+        }
+    }
+
+    /**
+     * Returns true if taskToCheck starts on the same day as an existing task and their time periods clash.
+     *
+     * @param existingTask Task that is already in the task list.
+     * @param taskToCheck  Task to be checked for clash.
+     * @return true if the tasks clash.
+     */
+    private static boolean isClashing(Task existingTask, Task taskToCheck) {
+        return isOnSameDay(existingTask, taskToCheck)
+                && hasTimeClash(existingTask, taskToCheck.getDoOnStartMinute(), taskToCheck.getDoOnEndMinute());
+    }
+
+    //@@author jltha
+    /**
+     * Checks if the dates and times of a task are valid on their own,
+     * i.e. without comparing them against other tasks.
+     *
+     * @param taskToCheck  Task to be checked.
+     * @param isFromFile   boolean value checking if task to check for is from a save file.
+     * @param isEditByOnly boolean value checking if only the by date of the task is edited.
+     * @throws InvalidInputException If the start time is not before the end time, the start date is in the past
+     *                               or the by date is before the end time.
+     */
+    public static void checkValidDateTime(Task taskToCheck, boolean isFromFile, boolean isEditByOnly)
+            throws InvalidInputException {
         if (isStartTimeClashWithEndTime(taskToCheck)) {
             throw new InvalidInputException(ERROR_START_AFTER_END_TIME_MESSAGE);
         }
@@ -113,78 +153,193 @@ public class TaskUtil {
         if (isByDateBeforeDoOnDate(taskToCheck)) {
             throw new InvalidInputException(ERROR_BY_DATE_BEFORE_DO_ON_DATE);
         }
-        for (Task task : taskList) {
-            if (isOnSameDay(task.getDoOnStartDateTime(), taskToCheck.getDoOnStartDateTime())
-                    && hasTimeClash(task, taskToCheck.getDoOnStartDateTime(), taskToCheck.getDoOnEndDateTime())) {
-                throw new TimeClashException(ERROR_SCHEDULE_CLASH_MESSAGE
-                        + "\n\t-> " + task.printTask() + "\n\t-> " + taskToCheck.printTask());
+    }
+
+    /**
+     * Checks if there is any date and time clashes among tasks
+     * that are sorted by their start date and time.
+     * Sweeps through the tasks once, keeping the task that ends the latest on the current day,
+     * as any task clashing with an earlier task on the same day also clashes with that task.
+     *
+     * @param sortedTasks Array representation of tasks, sorted by start date and time.
+     * @throws TimeClashException If two tasks on the same day have clashing time periods.
+     */
+    public static void checkSortedDateTimeClash(ArrayList<Task> sortedTasks) throws TimeClashException {
+        Task latestEndingTask = null;
+        for (Task task : sortedTasks) {
+            if (latestEndingTask == null || !isOnSameDay(latestEndingTask, task)) {
+                latestEndingTask = task;
+                continue;
+            }
+            if (hasTimeClash(latestEndingTask, task.getDoOnStartMinute(), task.getDoOnEndMinute())) {
+                throw new TimeClashException(getClashMessage(latestEndingTask, task));
+            }
+            if (task.getDoOnEndMinute() > latestEndingTask.getDoOnEndMinute()) {
+                latestEndingTask = task;
             }
         }
     }
 
+    /**
+     * Checks if any of the tasks to check clashes with another task, among tasks sorted by their start date and time.
+     * Sweeps through the tasks once, keeping the earlier tasks on the current day which have not ended yet.
+     * A task clashes with exactly those tasks, so every clash is found, and not just the first one.
+     *
+     * @param sortedTasks  Array representation of tasks, sorted by start date and time.
+     * @param tasksToCheck The tasks among sortedTasks to be checked for clashes.
+     * @throws TimeClashException If any task to check clashes with another task, listing every clash.
+     */
+    public static void checkSortedDateTimeClashes(ArrayList<Task> sortedTasks, Set<Task> tasksToCheck)
+            throws TimeClashException {
+        ArrayList<Task> ongoingTasks = new ArrayList<>();
+        StringBuilder clashMessages = new StringBuilder();
+        for (Task task : sortedTasks) {
+            ongoingTasks.removeIf(ongoingTask -> !isClashing(ongoingTask, task));
+            for (Task ongoingTask : ongoingTasks) {
+                if (tasksToCheck.contains(ongoingTask) || tasksToCheck.contains(task)) {
+                    clashMessages.append(getClashPairMessage(ongoingTask, task));
+                }
+            }
+            ongoingTasks.add(task);
+        }
+        if (clashMessages.length() > 0) {
+            throw new TimeClashException(ERROR_SCHEDULE_CLASH_MESSAGE + clashMessages);
+        }
+    }
+
+    /**
+     * Removes the tasks that clash with an earlier task which is kept, among tasks sorted by their start date and time,
+     * so that the tasks left have no clashes. Sweeps through the tasks once in the same way as
+     * {@link #checkSortedDateTimeClashes(ArrayList, Set)}, so every clashing pair is found, including pairs
+     * of tasks which are both removed.
+     *
+     * @param sortedTasks   Array representation of tasks, sorted by start date and time.
+     *                      The clashing tasks are removed from it.
+     * @param clashMessages Messages to which every clashing pair is appended.
+     * @return ArrayList of the tasks removed, sorted by start date and time.
+     */
+    public static ArrayList<Task> removeSortedDateTimeClashes(ArrayList<Task> sortedTasks,
+                                                              StringBuilder clashMessages) {
+        ArrayList<Task> ongoingTasks = new ArrayList<>();
+        Set<Task> removedTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayList<Task> clashingTasks = new ArrayList<>();
+        for (Task task : sortedTasks) {
+            ongoingTasks.removeIf(ongoingTask -> !isClashing(ongoingTask, task));
+            boolean isClashingWithKeptTask = false;
+            for (Task ongoingTask : ongoingTasks) {
+                clashMessages.append(getClashPairMessage(ongoingTask, task));
+                isClashingWithKeptTask |= !removedTasks.contains(ongoingTask);
+            }
+            ongoingTasks.add(task);
+            if (isClashingWithKeptTask) {
+                removedTasks.add(task);
+                clashingTasks.add(task);
+            }
+        }
+        sortedTasks.removeIf(removedTasks::contains);
+        return clashingTasks;
+    }
+
+    /**
+     * Removes the tasks that clash with any of the kept tasks, e.g. tasks which are already in the task list,
+     * and returns them. The kept tasks are grouped by day first, so each task is only compared with the kept tasks
+     * starting on the same day.
+     *
+     * @param tasks         Array representation of tasks. The clashing tasks are removed from it.
+     * @param keptTasks     Tasks which are kept even if they clash.
+     * @param clashMessages Messages to which every clashing pair is appended.
+     * @return ArrayList of the tasks removed, in the same order as in tasks.
+     */
+    public static ArrayList<Task> removeDateTimeClashesWith(ArrayList<Task> tasks, ArrayList<Task> keptTasks,
+                                                            StringBuilder clashMessages) {
+        HashMap<Long, ArrayList<Task>> keptTasksByDay = new HashMap<>();
+        for (Task keptTask : keptTasks) {
+            keptTasksByDay.computeIfAbsent(keptTask.getDoOnEpochDay(), day -> new ArrayList<>()).add(keptTask);
+        }
+        Set<Task> removedTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayList<Task> clashingTasks = new ArrayList<>();
+        for (Task task : tasks) {
+            for (Task keptTask : keptTasksByDay.getOrDefault(task.getDoOnEpochDay(), new ArrayList<>())) {
+                if (isClashing(keptTask, task) || isClashing(task, keptTask)) {
+                    clashMessages.append(getClashPairMessage(keptTask, task));
+                    removedTasks.add(task);
+                }
+            }
+            if (removedTasks.contains(task)) {
+                clashingTasks.add(task);
+            }
+        }
+        tasks.removeIf(removedTasks::contains);
+        return clashingTasks;
+    }
+
+    private static String getClashMessage(Task existingTask, Task taskToCheck) {
+        return ERROR_SCHEDULE_CLASH_MESSAGE + getClashPairMessage(existingTask, taskToCheck);
+    }
+
+    private static String getClashPairMessage(Task existingTask, Task taskToCheck) {
+        return "\n\t-> " + existingTask.printTask() + "\n\t-> " + taskToCheck.printTask();
+    }
+
     //@@author jltha
-    private static boolean isOnSameDay(LocalDateTime firstDate, LocalDateTime secondDate) {
-        return firstDate.toLocalDate().equals(secondDate.toLocalDate());
+    private static boolean isOnSameDay(Task firstTask, Task secondTask) {
+        return firstTask.getDoOnEpochDay() == secondTask.getDoOnEpochDay();
     }
 
     //@@author jltha
-    private static boolean isEndTimeAfterCurrentStartTime(Task currentTask, LocalDateTime doOnStartDateTime,
-                                                          LocalDateTime doOnEndDateTime) {
-        return doOnEndDateTime.isAfter(currentTask.getDoOnStartDateTime())
-                && (doOnStartDateTime.isBefore(currentTask.getDoOnStartDateTime())
-                || doOnStartDateTime.equals(currentTask.getDoOnStartDateTime()));
+    private static boolean isEndTimeAfterCurrentStartTime(Task currentTask, long doOnStartMinute,
+                                                          long doOnEndMinute) {
+        return doOnEndMinute > currentTask.getDoOnStartMinute()
+                && doOnStartMinute <= currentTask.getDoOnStartMinute();
     }
 
     //@@author jltha
-    private static boolean isStartTimeBeforeCurrentEndTime(Task currentTask, LocalDateTime doOnStartDateTime,
-                                                           LocalDateTime doOnEndDateTime) {
-        return doOnStartDateTime.isBefore(currentTask.getDoOnEndDateTime())
-                && (doOnEndDateTime.isAfter(currentTask.getDoOnEndDateTime())
-                || doOnEndDateTime.equals(currentTask.getDoOnEndDateTime()));
+    private static boolean isStartTimeBeforeCurrentEndTime(Task currentTask, long doOnStartMinute,
+                                                           long doOnEndMinute) {
+        return doOnStartMinute < currentTask.getDoOnEndMinute()
+                && doOnEndMinute >= currentTask.getDoOnEndMinute();
     }
 
     //@@author jltha
-    private static boolean isStartAndEndTimeWithinCurrentTime(Task currentTask, LocalDateTime doOnStartDateTime,
-                                                              LocalDateTime doOnEndDateTime) {
-        return doOnStartDateTime.isAfter(currentTask.getDoOnStartDateTime())
-                && doOnEndDateTime.isBefore(currentTask.getDoOnEndDateTime());
+    private static boolean isStartAndEndTimeWithinCurrentTime(Task currentTask, long doOnStartMinute,
+                                                              long doOnEndMinute) {
+        return doOnStartMinute > currentTask.getDoOnStartMinute()
+                && doOnEndMinute < currentTask.getDoOnEndMinute();
     }
 
     //@@author jltha
-    private static boolean isStartAndEndTimeContainCurrentTime(Task currentTask, LocalDateTime doOnStartDateTime,
-                                                               LocalDateTime doOnEndDateTime) {
-        return currentTask.getDoOnStartDateTime().isAfter(doOnStartDateTime)
-                && currentTask.getDoOnEndDateTime().isBefore(doOnEndDateTime);
+    private static boolean isStartAndEndTimeContainCurrentTime(Task currentTask, long doOnStartMinute,
+                                                               long doOnEndMinute) {
+        return currentTask.getDoOnStartMinute() > doOnStartMinute
+                && currentTask.getDoOnEndMinute() < doOnEndMinute;
     }
 
     //@@author jltha
-    private static boolean isStartAndEndTimeEqualsCurrentTime(Task currentTask, LocalDateTime doOnStartDateTime,
-                                                              LocalDateTime doOnEndDateTime) {
-        return doOnStartDateTime.isEqual(currentTask.getDoOnStartDateTime())
-                && doOnEndDateTime.equals(currentTask.getDoOnEndDateTime());
+    private static boolean isStartAndEndTimeEqualsCurrentTime(Task currentTask, long doOnStartMinute,
+                                                              long doOnEndMinute) {
+        return doOnStartMinute == currentTask.getDoOnStartMinute()
+                && doOnEndMinute == currentTask.getDoOnEndMinute();
     }
 
     //@@author jltha
-    private static boolean hasTimeClash(Task currentTask, LocalDateTime doOnStartDateTime,
-                                        LocalDateTime doOnEndDateTime) {
-        return isStartAndEndTimeEqualsCurrentTime(currentTask, doOnStartDateTime, doOnEndDateTime)
-                || isEndTimeAfterCurrentStartTime(currentTask, doOnStartDateTime, doOnEndDateTime)
-                || isStartTimeBeforeCurrentEndTime(currentTask, doOnStartDateTime, doOnEndDateTime)
-                || isStartAndEndTimeWithinCurrentTime(currentTask, doOnStartDateTime, doOnEndDateTime)
-                || isStartAndEndTimeContainCurrentTime(currentTask, doOnStartDateTime, doOnEndDateTime);
+    private static boolean hasTimeClash(Task currentTask, long doOnStartMinute, long doOnEndMinute) {
+        return isStartAndEndTimeEqualsCurrentTime(currentTask, doOnStartMinute, doOnEndMinute)
+                || isEndTimeAfterCurrentStartTime(currentTask, doOnStartMinute, doOnEndMinute)
+                || isStartTimeBeforeCurrentEndTime(currentTask, doOnStartMinute, doOnEndMinute)
+                || isStartAndEndTimeWithinCurrentTime(currentTask, doOnStartMinute, doOnEndMinute)
+                || isStartAndEndTimeContainCurrentTime(currentTask, doOnStartMinute, doOnEndMinute);
     }
 
     //@@author jltha
     private static boolean isStartTimeClashWithEndTime(Task taskToCheck) {
-        return taskToCheck.getDoOnStartDateTime().isAfter(taskToCheck.getDoOnEndDateTime())
-                || taskToCheck.getDoOnStartDateTime().equals(taskToCheck.getDoOnEndDateTime());
+        return taskToCheck.getDoOnStartMinute() >= taskToCheck.getDoOnEndMinute();
     }
 
     //@@author jltha
     private static boolean isByDateBeforeDoOnDate(Task taskToCheck) {
-        if (taskToCheck.getByDateTime() == null) {
+        if (taskToCheck.getByMinute() == Task.NO_BY_DATE_MINUTE) {
             return false;
         }
-        return !taskToCheck.getByDateTime().isAfter(taskToCheck.getDoOnEndDateTime());
+        return taskToCheck.getByMinute() <= taskToCheck.getDoOnEndMinute();
     }
 }
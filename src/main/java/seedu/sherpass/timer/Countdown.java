@@ -56,8 +56,9 @@ public class Countdown extends Timer  {
             TimerLogic.resetIsTimerInitialised();
             ui.showToUser("Time is up!\n"
                     + "Would you like to start another timer, mark a task as done, or leave the study session?");
-            Timetable.showScheduleByDay(LocalDate.now(), taskList, ui);
+            Timetable.showScheduleByDay(LocalDate.now(), taskList.getSnapshot(), ui);
             ui.showLine();
+            ui.flush();
         }
         this.interrupt();
     }
@@ -114,11 +115,11 @@ public class Countdown extends Timer  {
 
     public void printTime() {
         if (timeLeft <= ONE_MINUTE && (timeLeft % FIFTEEN_SECOND_INTERVAL == 0)) {
-            ui.showToUser(convertTimeToString(timeLeft) + " are left.");
+            ui.showToUserImmediately(convertTimeToString(timeLeft) + " are left.");
             return;
         }
         if (timeLeft % ONE_MINUTE_INTERVAL == 0) {
-            ui.showToUser(convertTimeToString(timeLeft) + " are left.");
+            ui.showToUserImmediately(convertTimeToString(timeLeft) + " are left.");
         }
 
     }
@@ -136,7 +137,7 @@ public class Countdown extends Timer  {
      * Prints the timer selected by the user.
      */
     protected void printTimerStart() {
-        ui.showToUser("Timer of " + convertTimeToString(timeLeft) + " started.");
+        ui.showToUserImmediately("Timer of " + convertTimeToString(timeLeft) + " started.");
     }
 
     /**
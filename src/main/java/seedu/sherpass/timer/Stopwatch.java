@@ -54,7 +54,7 @@ public class Stopwatch extends Timer {
                 waitForTimerToResume();
             }
         } catch (InterruptedException e) {
-            ui.showToUser("Alright, I've stopped the stopwatch.");
+            ui.showToUserImmediately("Alright, I've stopped the stopwatch.");
             forcedStop = true;
             this.interrupt();
         }
@@ -83,11 +83,11 @@ public class Stopwatch extends Timer {
 
     public void printTime() {
         if (timeElapsed <= ONE_MINUTE && (timeElapsed % FIFTEEN_SECOND_INTERVAL == 0)) {
-            ui.showToUser(convertTimeToString(timeElapsed) + " have elapsed.");
+            ui.showToUserImmediately(convertTimeToString(timeElapsed) + " have elapsed.");
             return;
         }
         if (timeElapsed % ONE_MINUTE_INTERVAL == 0) {
-            ui.showToUser(convertTimeToString(timeElapsed) + " have elapsed.");
+            ui.showToUserImmediately(convertTimeToString(timeElapsed) + " have elapsed.");
         }
 
     }
@@ -96,7 +96,7 @@ public class Stopwatch extends Timer {
      * Prints the timer selected by the user.
      */
     protected void printTimerStart() {
-        ui.showToUser("Alright, your stopwatch is started. Feel free to pause "
+        ui.showToUserImmediately("Alright, your stopwatch is started. Feel free to pause "
                 + "or stop the stopwatch whenever you're ready.");
     }
 
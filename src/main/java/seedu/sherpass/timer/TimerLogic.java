@@ -38,14 +38,17 @@ public class TimerLogic implements WindowListener {
     private final ActionListener actionListenerPause = actionEvent -> {
         callPauseTimer();
         ui.showLine();
+        ui.flush();
     };
     private final ActionListener actionListenerResume = actionEvent -> {
         callResumeTimer();
         ui.showLine();
+        ui.flush();
     };
     private final ActionListener actionListenerStop = actionEvent -> {
         callStopTimer();
         ui.showLine();
+        ui.flush();
     };
 
     /**
@@ -166,7 +169,7 @@ public class TimerLogic implements WindowListener {
         if (isTimerInitialised) {
             timer.stopTimer();
             isTimerInitialised = updateIsTimerRunning();
-            Timetable.showScheduleByDay(LocalDate.now(), taskList, ui);
+            Timetable.showScheduleByDay(LocalDate.now(), taskList.getSnapshot(), ui);
             ui.showToUser("Would you like to start another timer, mark a task as done, "
                     + "or leave the study session?");
             return;
@@ -253,6 +256,7 @@ public class TimerLogic implements WindowListener {
     public void windowClosing(WindowEvent e) {
         callStopTimer();
         ui.showLine();
+        ui.flush();
     }
 
     /**
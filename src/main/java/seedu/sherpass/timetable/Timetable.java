@@ -1,44 +1,22 @@
 package seedu.sherpass.timetable;
 
-import seedu.sherpass.enums.TaskContentType;
+import seedu.sherpass.exception.InvalidInputException;
 import seedu.sherpass.task.Task;
 import seedu.sherpass.task.TaskList;
+import seedu.sherpass.task.TaskListSnapshot;
 import seedu.sherpass.util.Ui;
 
 import java.time.Month;
 import java.util.ArrayList;
 
-import java.time.temporal.ChronoUnit;
 import java.time.LocalDate;
 
 
 import static seedu.sherpass.constant.DateAndTimeFormat.dayOnlyFormat;
 import static seedu.sherpass.constant.DateAndTimeFormat.outputDateOnlyFormat;
-import static seedu.sherpass.constant.TimetableConstant.BY_DATE_COMPARE_LENGTH;
-import static seedu.sherpass.constant.TimetableConstant.BY_DATE_FULL_LENGTH;
-import static seedu.sherpass.constant.TimetableConstant.BY_DATE_OFFSET_LENGTH;
 import static seedu.sherpass.constant.TimetableConstant.DAYS_IN_A_WEEK;
-import static seedu.sherpass.constant.TimetableConstant.DO_ON_DATE_COMPARE_LENGTH;
-import static seedu.sherpass.constant.TimetableConstant.DO_ON_DATE_FULL_LENGTH;
-import static seedu.sherpass.constant.TimetableConstant.DO_ON_DATE_OFFSET_LENGTH;
-import static seedu.sherpass.constant.TimetableConstant.TASK_NUMBER_COMPARE_LENGTH;
-import static seedu.sherpass.constant.TimetableConstant.TASK_DESCRIPTION_COMPARE_LENGTH;
-import static seedu.sherpass.constant.TimetableConstant.TASK_DESCRIPTION_COMPARE_OFFSET_LENGTH;
-import static seedu.sherpass.constant.TimetableConstant.TASK_DESCRIPTION_FULL_LENGTH;
-import static seedu.sherpass.constant.TimetableConstant.TASK_NUMBER_FULL_LENGTH;
-import static seedu.sherpass.constant.TimetableConstant.TASK_NUMBER_OFFSET_LENGTH;
 
 public class Timetable {
-    private static LocalDate localDate;
-    private static ArrayList<Task> tasks;
-    private static Ui ui;
-
-    private static void setInitialTimetableInputs(LocalDate dateInput,
-                                                  ArrayList<Task> filteredTasks, Ui userInterface) {
-        localDate = dateInput;
-        tasks = filteredTasks;
-        ui = userInterface;
-    }
 
     /**
      * Generates a timetable for the day according to the date input.
@@ -46,11 +24,23 @@ public class Timetable {
      * @param dateInput The date input.
      * @param taskList  Representation of an array of tasks.
      * @param ui        The user interface which interacts with the user.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
      */
-    public static void showScheduleByDay(LocalDate dateInput, TaskList taskList, Ui ui) {
-        ArrayList<Task> filteredTasks = taskList.getFilteredTasksByDate(dateInput);
-        setInitialTimetableInputs(dateInput, filteredTasks, ui);
-        prepareFullTimetable();
+    public static void showScheduleByDay(LocalDate dateInput, TaskList taskList, Ui ui) throws InvalidInputException {
+        prepareFullTimetable(dateInput, taskList.getFilteredTasksByDate(dateInput), ui);
+    }
+
+    /**
+     * Generates a timetable for the day from a snapshot of the task list.
+     * Used by threads other than the main thread, e.g. the timer, which must not read the task list
+     * while it is being changed.
+     *
+     * @param dateInput The date input.
+     * @param snapshot  Snapshot of the task list.
+     * @param ui        The user interface which interacts with the user.
+     */
+    public static void showScheduleByDay(LocalDate dateInput, TaskListSnapshot snapshot, Ui ui) {
+        prepareFullTimetable(dateInput, snapshot.getFilteredTasksByDate(dateInput), ui);
     }
 
     /**
@@ -60,8 +50,9 @@ public class Timetable {
      * @param month The month input.
      * @param taskList  Representation of an array of tasks.
      * @param ui        The user interface which interacts with the user.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
      */
-    public static void showScheduleByMonth(Month month, TaskList taskList, Ui ui) {
+    public static void showScheduleByMonth(Month month, TaskList taskList, Ui ui) throws InvalidInputException {
         LocalDate firstDayOfMonth = TimetableLogic.getFirstDayOfMonth(month);
         ArrayList<Task> monthlySchedule = taskList.getFilteredTasksByMonth(firstDayOfMonth);
         prepareCondensedTimetable(monthlySchedule, ui);
@@ -73,10 +64,10 @@ public class Timetable {
      *
      * @param taskList Representation of an array of tasks.
      * @param ui The user interface which interacts with the user.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
      */
-    public static void showPendingTasks(TaskList taskList, Ui ui) {
-        tasks = taskList.getPendingTasks();
-        prepareCondensedTimetable(tasks, ui);
+    public static void showPendingTasks(TaskList taskList, Ui ui) throws InvalidInputException {
+        prepareCondensedTimetable(taskList.getPendingTasks(), ui);
     }
 
     /**
@@ -86,23 +77,9 @@ public class Timetable {
      * @param ui The user interface which interacts with the user.
      */
     public static void prepareCondensedTimetable(ArrayList<Task> tasks, Ui ui) {
-        long taskLength = TimetableLogic.prepareTaskContentLength(tasks,
-                TASK_DESCRIPTION_COMPARE_LENGTH, TASK_DESCRIPTION_COMPARE_OFFSET_LENGTH,
-                TASK_DESCRIPTION_FULL_LENGTH, TaskContentType.TASK_DESCRIPTION);
-        long byDateLength = TimetableLogic.prepareTaskContentLength(tasks,
-                BY_DATE_COMPARE_LENGTH, BY_DATE_OFFSET_LENGTH,
-                BY_DATE_FULL_LENGTH, TaskContentType.BY_DATE);
-        long doOnDateLength = TimetableLogic.prepareTaskContentLength(tasks,
-                DO_ON_DATE_COMPARE_LENGTH, DO_ON_DATE_OFFSET_LENGTH,
-                DO_ON_DATE_FULL_LENGTH, TaskContentType.DO_ON_DATE);
-        long taskNumberLength = TimetableLogic.prepareTaskContentLength(tasks,
-                TASK_NUMBER_COMPARE_LENGTH, TASK_NUMBER_OFFSET_LENGTH,
-                TASK_NUMBER_FULL_LENGTH, TaskContentType.TASK_NUMBER);
-        long partitionLength = TimetableLogic.calcPartitionLength(taskLength, byDateLength, doOnDateLength,
-                taskNumberLength, false);
-        if (!tasks.isEmpty()) {
-            TimetablePrinting.printCondensedTimetable(tasks, ui, taskLength, byDateLength,
-                    doOnDateLength, taskNumberLength, partitionLength);
+        TimetableLayout layout = TimetableLayout.layOutCondensedTimetable(tasks);
+        if (!layout.isEmpty()) {
+            TimetablePrinting.printCondensedTimetable(layout, ui);
         } else {
             TimetablePrinting.printEmptyCondensedTimetable(ui);
         }
@@ -115,36 +92,51 @@ public class Timetable {
      * @param dateInput The date input.
      * @param taskList  Representation of an array of tasks.
      * @param ui        The user interface which interacts with the user.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
      */
-    public static void showScheduleOfTheWeek(LocalDate dateInput, TaskList taskList, Ui ui) {
-        LocalDate currentDate = TimetableLogic.resetDateToMonday(dateInput, ui);
-        for (int i = 0; i < DAYS_IN_A_WEEK; i++) {
-            showScheduleByDay(currentDate, taskList, ui);
-            assert (currentDate != null);
-            currentDate = currentDate.plus(1, ChronoUnit.DAYS);
+    public static void showScheduleOfTheWeek(LocalDate dateInput, TaskList taskList, Ui ui)
+            throws InvalidInputException {
+        showScheduleOfDays(TimetableLogic.resetDateToMonday(dateInput), DAYS_IN_A_WEEK, taskList, ui);
+    }
+
+    /**
+     * Generates a timetable for each of a number of days in a row.
+     * The tasks of all the days are found with one query over the range of days,
+     * and are then split into the days they start on.
+     *
+     * @param firstDate The first date to show.
+     * @param dayCount  The number of days to show.
+     * @param taskList  Representation of an array of tasks.
+     * @param ui        The user interface which interacts with the user.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded.
+     */
+    public static void showScheduleOfDays(LocalDate firstDate, int dayCount, TaskList taskList, Ui ui)
+            throws InvalidInputException {
+        assert firstDate != null && dayCount > 0;
+        ArrayList<ArrayList<Task>> tasksOfDays = TimetableLogic.splitTasksByDay(
+                taskList.getFilteredTasksByDateRange(firstDate, firstDate.plusDays(dayCount)), firstDate, dayCount);
+        for (int i = 0; i < dayCount; i++) {
+            prepareFullTimetable(firstDate.plusDays(i), tasksOfDays.get(i), ui);
         }
     }
 
 
     /**
      * Prepares a full timetable and prints the timetable in the terminal.
+     *
+     * @param localDate The date of the timetable.
+     * @param tasks     The tasks on the date.
+     * @param ui        The user interface which interacts with the user.
      */
-    private static void prepareFullTimetable() {
+    private static void prepareFullTimetable(LocalDate localDate, ArrayList<Task> tasks, Ui ui) {
         assert localDate != null;
         String day = localDate.format(dayOnlyFormat);
         String date = localDate.format(outputDateOnlyFormat);
-        long taskLength = TimetableLogic.prepareTaskContentLength(tasks,
-                TASK_DESCRIPTION_COMPARE_LENGTH, TASK_DESCRIPTION_COMPARE_OFFSET_LENGTH,
-                TASK_DESCRIPTION_FULL_LENGTH, TaskContentType.TASK_DESCRIPTION);
-        long byDateLength = TimetableLogic.prepareTaskContentLength(tasks,
-                BY_DATE_COMPARE_LENGTH, BY_DATE_OFFSET_LENGTH,
-                BY_DATE_FULL_LENGTH, TaskContentType.BY_DATE);
-        long partitionLength = TimetableLogic.calcPartitionLength(taskLength, byDateLength,
-                0, 0, true);
-        if (!tasks.isEmpty()) {
-            TimetablePrinting.printFullTimetable(day, date, tasks, ui, taskLength, byDateLength, partitionLength);
+        TimetableLayout layout = TimetableLayout.layOutFullTimetable(tasks);
+        if (!layout.isEmpty()) {
+            TimetablePrinting.printFullTimetable(day, date, layout, ui);
         } else {
-            TimetablePrinting.printEmptyFullTimetable(ui, day, date, partitionLength);
+            TimetablePrinting.printEmptyFullTimetable(ui, day, date, layout.getPartitionLength());
         }
     }
 }
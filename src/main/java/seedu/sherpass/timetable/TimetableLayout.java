@@ -0,0 +1,151 @@
+package seedu.sherpass.timetable;
+
+import seedu.sherpass.task.Task;
+
+import java.util.ArrayList;
+
+import static seedu.sherpass.constant.TimetableConstant.BY_DATE_COMPARE_LENGTH;
+import static seedu.sherpass.constant.TimetableConstant.BY_DATE_FULL_LENGTH;
+import static seedu.sherpass.constant.TimetableConstant.BY_DATE_OFFSET_LENGTH;
+import static seedu.sherpass.constant.TimetableConstant.DO_ON_DATE_COMPARE_LENGTH;
+import static seedu.sherpass.constant.TimetableConstant.DO_ON_DATE_FULL_LENGTH;
+import static seedu.sherpass.constant.TimetableConstant.DO_ON_DATE_OFFSET_LENGTH;
+import static seedu.sherpass.constant.TimetableConstant.TASK_DESCRIPTION_COMPARE_LENGTH;
+import static seedu.sherpass.constant.TimetableConstant.TASK_DESCRIPTION_COMPARE_OFFSET_LENGTH;
+import static seedu.sherpass.constant.TimetableConstant.TASK_DESCRIPTION_FULL_LENGTH;
+import static seedu.sherpass.constant.TimetableConstant.TASK_NUMBER_COMPARE_LENGTH;
+import static seedu.sherpass.constant.TimetableConstant.TASK_NUMBER_FULL_LENGTH;
+import static seedu.sherpass.constant.TimetableConstant.TASK_NUMBER_OFFSET_LENGTH;
+
+class TimetableLayout {
+    static final int FULL_TIME_COLUMN = 0;
+    static final int FULL_MARK_STATUS_COLUMN = 1;
+    static final int FULL_DESCRIPTION_COLUMN = 2;
+    static final int FULL_BY_DATE_COLUMN = 3;
+    static final int CONDENSED_TASK_NUMBER_COLUMN = 0;
+    static final int CONDENSED_MARK_STATUS_COLUMN = 1;
+    static final int CONDENSED_DESCRIPTION_COLUMN = 2;
+    static final int CONDENSED_DO_ON_DATE_COLUMN = 3;
+    static final int CONDENSED_BY_DATE_COLUMN = 4;
+    private static final int FULL_COLUMN_COUNT = 4;
+    private static final int CONDENSED_COLUMN_COUNT = 5;
+
+    private final ArrayList<String[]> rows;
+    private final long taskDescriptionLength;
+    private final long byDateLength;
+    private final long doOnDateLength;
+    private final long taskNumberLength;
+    private final long partitionLength;
+
+    private TimetableLayout(ArrayList<String[]> rows, long taskDescriptionLength, long byDateLength,
+                            long doOnDateLength, long taskNumberLength, boolean isFullTimetable) {
+        this.rows = rows;
+        this.taskDescriptionLength = taskDescriptionLength;
+        this.byDateLength = byDateLength;
+        this.doOnDateLength = doOnDateLength;
+        this.taskNumberLength = taskNumberLength;
+        this.partitionLength = TimetableLogic.calcPartitionLength(taskDescriptionLength, byDateLength,
+                doOnDateLength, taskNumberLength, isFullTimetable);
+    }
+
+    /**
+     * Lays out the rows of a full timetable for the given tasks.
+     * Each cell is formatted once, and the width of each column is found while the cells are formatted,
+     * so the tasks are only walked through once.
+     *
+     * @param tasks The tasks to be shown, in the order they are shown.
+     * @return Layout of the full timetable.
+     */
+    static TimetableLayout layOutFullTimetable(ArrayList<Task> tasks) {
+        ArrayList<String[]> rows = new ArrayList<>(tasks.size());
+        long maxDescriptionLength = 0;
+        long maxByDateLength = 0;
+        for (Task task : tasks) {
+            String[] row = new String[FULL_COLUMN_COUNT];
+            row[FULL_TIME_COLUMN] = task.getDoOnDateTimePeriod();
+            row[FULL_MARK_STATUS_COLUMN] = task.getStatusIcon();
+            row[FULL_DESCRIPTION_COLUMN] = task.getIndex() + ". " + task.getDescription();
+            row[FULL_BY_DATE_COLUMN] = task.getByDateString();
+            maxDescriptionLength = Math.max(maxDescriptionLength, task.getDescription().length());
+            maxByDateLength = Math.max(maxByDateLength, row[FULL_BY_DATE_COLUMN].length());
+            rows.add(row);
+        }
+        return new TimetableLayout(rows,
+                TimetableLogic.prepareTaskContentLength(maxDescriptionLength, TASK_DESCRIPTION_COMPARE_LENGTH,
+                        TASK_DESCRIPTION_COMPARE_OFFSET_LENGTH, TASK_DESCRIPTION_FULL_LENGTH),
+                TimetableLogic.prepareTaskContentLength(maxByDateLength, BY_DATE_COMPARE_LENGTH,
+                        BY_DATE_OFFSET_LENGTH, BY_DATE_FULL_LENGTH),
+                0, 0, true);
+    }
+
+    /**
+     * Lays out the rows of a condensed timetable for the given tasks.
+     * Each cell is formatted once, and the width of each column is found while the cells are formatted,
+     * so the tasks are only walked through once.
+     *
+     * @param tasks The tasks to be shown, in the order they are shown.
+     * @return Layout of the condensed timetable.
+     */
+    static TimetableLayout layOutCondensedTimetable(ArrayList<Task> tasks) {
+        ArrayList<String[]> rows = new ArrayList<>(tasks.size());
+        long maxTaskNumberLength = 0;
+        long maxDescriptionLength = 0;
+        long maxDoOnDateLength = 0;
+        long maxByDateLength = 0;
+        for (Task task : tasks) {
+            String[] row = new String[CONDENSED_COLUMN_COUNT];
+            row[CONDENSED_TASK_NUMBER_COLUMN] = String.valueOf(task.getIndex());
+            row[CONDENSED_MARK_STATUS_COLUMN] = task.getStatusIcon();
+            row[CONDENSED_DESCRIPTION_COLUMN] = task.getDescription();
+            row[CONDENSED_DO_ON_DATE_COLUMN] = task.getDoOnDateString();
+            row[CONDENSED_BY_DATE_COLUMN] = task.getByDateString();
+            maxTaskNumberLength = Math.max(maxTaskNumberLength, row[CONDENSED_TASK_NUMBER_COLUMN].length());
+            maxDescriptionLength = Math.max(maxDescriptionLength, row[CONDENSED_DESCRIPTION_COLUMN].length());
+            maxDoOnDateLength = Math.max(maxDoOnDateLength, row[CONDENSED_DO_ON_DATE_COLUMN].length());
+            maxByDateLength = Math.max(maxByDateLength, row[CONDENSED_BY_DATE_COLUMN].length());
+            rows.add(row);
+        }
+        return new TimetableLayout(rows,
+                TimetableLogic.prepareTaskContentLength(maxDescriptionLength, TASK_DESCRIPTION_COMPARE_LENGTH,
+                        TASK_DESCRIPTION_COMPARE_OFFSET_LENGTH, TASK_DESCRIPTION_FULL_LENGTH),
+                TimetableLogic.prepareTaskContentLength(maxByDateLength, BY_DATE_COMPARE_LENGTH,
+                        BY_DATE_OFFSET_LENGTH, BY_DATE_FULL_LENGTH),
+                TimetableLogic.prepareTaskContentLength(maxDoOnDateLength, DO_ON_DATE_COMPARE_LENGTH,
+                        DO_ON_DATE_OFFSET_LENGTH, DO_ON_DATE_FULL_LENGTH),
+                TimetableLogic.prepareTaskContentLength(maxTaskNumberLength, TASK_NUMBER_COMPARE_LENGTH,
+                        TASK_NUMBER_OFFSET_LENGTH, TASK_NUMBER_FULL_LENGTH),
+                false);
+    }
+
+    boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    int getRowCount() {
+        return rows.size();
+    }
+
+    String getCell(int rowIndex, int column) {
+        return rows.get(rowIndex)[column];
+    }
+
+    long getTaskDescriptionLength() {
+        return taskDescriptionLength;
+    }
+
+    long getByDateLength() {
+        return byDateLength;
+    }
+
+    long getDoOnDateLength() {
+        return doOnDateLength;
+    }
+
+    long getTaskNumberLength() {
+        return taskNumberLength;
+    }
+
+    long getPartitionLength() {
+        return partitionLength;
+    }
+}
@@ -1,18 +1,12 @@
 package seedu.sherpass.timetable;
 
-import seedu.sherpass.enums.TaskContentType;
 import seedu.sherpass.task.Task;
-import seedu.sherpass.util.Ui;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Month;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.logging.Level;
 
-import static seedu.sherpass.Main.LOGGER;
-
-import static seedu.sherpass.constant.DateAndTimeFormat.dayOnlyFormat;
 import static seedu.sherpass.constant.TimetableConstant.PARTITION_PIPE_LINE_LENGTH_ONE;
 import static seedu.sherpass.constant.TimetableConstant.PARTITION_SPACE_OFFSET_LENGTH_ONE;
 import static seedu.sherpass.constant.TimetableConstant.PARTITION_SPACE_OFFSET_LENGTH_TWO;
@@ -22,45 +16,21 @@ import static seedu.sherpass.constant.TimetableConstant.WHITE_SPACE_FRONT_OFFSET
 public class TimetableLogic {
     //@@author jltha
     /**
-     * Finds the maximum length of the task content with reference to its task content type.
-     * Where task content type can be
-     * Task description, Task number, Task by_date or Task do_on date.
+     * Returns the width of a column from the length of the longest content in it.
+     * Columns with short content are kept at their full width so that the header fits.
      *
-     * @param filteredTasks The filtered Tasks given.
-     * @param type The task content type
-     * @return The maximum length of the task content type.
+     * @param maxContentLength The length of the longest content in the column.
+     * @param taskContentCompareLength The longest content which still fits in the full width.
+     * @param taskOffsetLength The space added to longer content.
+     * @param taskFullLength The full width of the column.
+     * @return The width of the column.
      */
-    protected static long findTaskContentLength(ArrayList<Task> filteredTasks, TaskContentType type) {
-        long max = 0;
-        long contentLength;
-        for (Task task : filteredTasks) {
-            switch (type) {
-            case TASK_DESCRIPTION:
-                contentLength = task.getDescription().length();
-                break;
-            case TASK_NUMBER:
-                contentLength = String.valueOf(task.getIndex()).length();
-                break;
-            case BY_DATE:
-                contentLength = task.getByDateString().length();
-                break;
-            default:
-                contentLength = task.getDoOnDateString().length();
-            }
-            if (contentLength > max) {
-                max = contentLength;
-            }
-        }
-        return max;
-    }
-
-    protected static long prepareTaskContentLength(ArrayList<Task> filteredTasks,
+    protected static long prepareTaskContentLength(long maxContentLength,
                                                    long taskContentCompareLength,
                                                    long taskOffsetLength,
-                                                   long taskFullLength, TaskContentType type) {
-        long descriptionLength = findTaskContentLength(filteredTasks, type);
-        if (descriptionLength > taskContentCompareLength) {
-            return descriptionLength + taskOffsetLength;
+                                                   long taskFullLength) {
+        if (maxContentLength > taskContentCompareLength) {
+            return maxContentLength + taskOffsetLength;
         }
         return taskFullLength;
     }
@@ -95,33 +65,33 @@ public class TimetableLogic {
      *
      *
      * @param localDate The date that is given
-     * @param ui User interface
      * @return Returns LocalDate with the day of Monday
      */
-    public static LocalDate resetDateToMonday(LocalDate localDate, Ui ui) {
-        String currentDate = localDate.format(dayOnlyFormat);
-        switch (currentDate) {
-        case "Mon":
-            return localDate;
-        case "Tue":
-            return localDate.minus(1, ChronoUnit.DAYS);
-        case "Wed":
-            return localDate.minus(2, ChronoUnit.DAYS);
-        case "Thu":
-            return localDate.minus(3, ChronoUnit.DAYS);
-        case "Fri":
-            return localDate.minus(4, ChronoUnit.DAYS);
-        case "Sat":
-            return localDate.minus(5, ChronoUnit.DAYS);
-        case "Sun":
-            return localDate.minus(6, ChronoUnit.DAYS);
-        default:
-            ui.showToUser("Oops! There seems to be some error\n"
-                    + "while running the system.\n"
-                    + "Please contact the developers for help.\n");
-            LOGGER.log(Level.WARNING, "Input that caused the error: " + currentDate);
-            return null;
+    public static LocalDate resetDateToMonday(LocalDate localDate) {
+        return localDate.minusDays(localDate.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+    }
+
+    /**
+     * Splits tasks in date order into the days they start on, in one pass over the tasks.
+     *
+     * @param tasks     The tasks starting within the range of days, in date order.
+     * @param firstDate The first date of the range.
+     * @param dayCount  The number of days in the range.
+     * @return The tasks of each day in the range, where the tasks of the first date come first.
+     */
+    protected static ArrayList<ArrayList<Task>> splitTasksByDay(ArrayList<Task> tasks, LocalDate firstDate,
+                                                                int dayCount) {
+        ArrayList<ArrayList<Task>> tasksOfDays = new ArrayList<>(dayCount);
+        for (int i = 0; i < dayCount; i++) {
+            tasksOfDays.add(new ArrayList<>());
+        }
+        long firstEpochDay = firstDate.toEpochDay();
+        for (Task task : tasks) {
+            long dayOffset = task.getDoOnEpochDay() - firstEpochDay;
+            assert dayOffset >= 0 && dayOffset < dayCount;
+            tasksOfDays.get((int) dayOffset).add(task);
         }
+        return tasksOfDays;
     }
 
 
@@ -1,10 +1,7 @@
 package seedu.sherpass.timetable;
 
-import seedu.sherpass.task.Task;
 import seedu.sherpass.util.Ui;
 
-import java.util.ArrayList;
-
 import static seedu.sherpass.constant.Message.WHITESPACE;
 import static seedu.sherpass.constant.TimetableConstant.BLANK_MARK_STATUS;
 import static seedu.sherpass.constant.TimetableConstant.BLANK_TIME_PERIOD;
@@ -14,6 +11,15 @@ import static seedu.sherpass.constant.TimetableConstant.TASK_MARK_STATUS_SPACE_L
 import static seedu.sherpass.constant.TimetableConstant.TIMETABLE_SIZE_OFFSET_ONE;
 import static seedu.sherpass.constant.TimetableConstant.TIMETABLE_SIZE_OFFSET_TWO;
 import static seedu.sherpass.constant.TimetableConstant.WHITE_SPACE_FRONT_OFFSET_LENGTH_ONE;
+import static seedu.sherpass.timetable.TimetableLayout.CONDENSED_BY_DATE_COLUMN;
+import static seedu.sherpass.timetable.TimetableLayout.CONDENSED_DESCRIPTION_COLUMN;
+import static seedu.sherpass.timetable.TimetableLayout.CONDENSED_DO_ON_DATE_COLUMN;
+import static seedu.sherpass.timetable.TimetableLayout.CONDENSED_MARK_STATUS_COLUMN;
+import static seedu.sherpass.timetable.TimetableLayout.CONDENSED_TASK_NUMBER_COLUMN;
+import static seedu.sherpass.timetable.TimetableLayout.FULL_BY_DATE_COLUMN;
+import static seedu.sherpass.timetable.TimetableLayout.FULL_DESCRIPTION_COLUMN;
+import static seedu.sherpass.timetable.TimetableLayout.FULL_MARK_STATUS_COLUMN;
+import static seedu.sherpass.timetable.TimetableLayout.FULL_TIME_COLUMN;
 
 public class TimetablePrinting {
     //@@author jltha
@@ -29,16 +35,17 @@ public class TimetablePrinting {
         ui.showToUser(ui.getRepeatedCharacters("-", partitionLength));
     }
 
-    protected static void printFullTimetable(String day, String date, ArrayList<Task> filteredTasks,
-                                             Ui ui, long taskDescriptionLength,
-                                             long byDateLength, long partitionLength) {
+    protected static void printFullTimetable(String day, String date, TimetableLayout layout, Ui ui) {
+        long taskDescriptionLength = layout.getTaskDescriptionLength();
+        long byDateLength = layout.getByDateLength();
+        long partitionLength = layout.getPartitionLength();
         String colTwo = "Time";
         String colThree = "Mark Status";
         String colFour = "Task Description";
         String colFive = "To complete by";
         int arrayIndex = 0;
-        int loopNumber = (filteredTasks.size() > EMPTY_TIMETABLE_SIZE)
-                ? filteredTasks.size() + TIMETABLE_SIZE_OFFSET_ONE : filteredTasks.size() + TIMETABLE_SIZE_OFFSET_TWO;
+        int loopNumber = (layout.getRowCount() > EMPTY_TIMETABLE_SIZE)
+                ? layout.getRowCount() + TIMETABLE_SIZE_OFFSET_ONE : layout.getRowCount() + TIMETABLE_SIZE_OFFSET_TWO;
         for (int rowNumber = 0; rowNumber < loopNumber; rowNumber++) {
             if ((rowNumber == 0) || (rowNumber == loopNumber - 1)) {
                 ui.showToUser(ui.getRepeatedCharacters("-", partitionLength));
@@ -47,15 +54,12 @@ public class TimetablePrinting {
 
             String colOne = (rowNumber == 1) ? "Day" : ((rowNumber == 2) ? day : date);
             if (rowNumber >= 2) {
-                colTwo = (arrayIndex < filteredTasks.size())
-                        ? filteredTasks.get(arrayIndex).getDoOnDateTimePeriod() : BLANK_TIME_PERIOD;
-                colThree = (arrayIndex < filteredTasks.size())
-                        ? filteredTasks.get(arrayIndex).getStatusIcon() : BLANK_MARK_STATUS;
-                colFour = (arrayIndex < filteredTasks.size())
-                        ? (filteredTasks.get(arrayIndex).getIndex() + ". "
-                        + filteredTasks.get(arrayIndex).getDescription())
+                boolean hasTask = arrayIndex < layout.getRowCount();
+                colTwo = hasTask ? layout.getCell(arrayIndex, FULL_TIME_COLUMN) : BLANK_TIME_PERIOD;
+                colThree = hasTask ? layout.getCell(arrayIndex, FULL_MARK_STATUS_COLUMN) : BLANK_MARK_STATUS;
+                colFour = hasTask ? layout.getCell(arrayIndex, FULL_DESCRIPTION_COLUMN)
                         : ui.getRepeatedCharacters(" ", taskDescriptionLength - STRING_COMPARE_OFFSET);
-                colFive = (arrayIndex < filteredTasks.size()) ? filteredTasks.get(arrayIndex).getByDateString()
+                colFive = hasTask ? layout.getCell(arrayIndex, FULL_BY_DATE_COLUMN)
                         : ui.getRepeatedCharacters(" ", byDateLength - STRING_COMPARE_OFFSET);
                 arrayIndex++;
             }
@@ -101,30 +105,26 @@ public class TimetablePrinting {
                 + "----------------------------------------------");
     }
 
-    protected static void printCondensedTimetable(ArrayList<Task> filteredTasks, Ui ui,
-                                                  long taskDescriptionLength, long byDateLength, long doOnDateLength,
-                                                  long taskNumberLength, long partitionLength) {
+    protected static void printCondensedTimetable(TimetableLayout layout, Ui ui) {
+        int rowCount = layout.getRowCount();
         int arrayIndex = 0;
-        for (int rowNumber = 0; rowNumber < filteredTasks.size() + TIMETABLE_SIZE_OFFSET_ONE; rowNumber++) {
-            if ((rowNumber == 0) || (rowNumber == filteredTasks.size() + TIMETABLE_SIZE_OFFSET_ONE - 1)) {
-                ui.showToUser(ui.getRepeatedCharacters("-", partitionLength));
+        for (int rowNumber = 0; rowNumber < rowCount + TIMETABLE_SIZE_OFFSET_ONE; rowNumber++) {
+            if ((rowNumber == 0) || (rowNumber == rowCount + TIMETABLE_SIZE_OFFSET_ONE - 1)) {
+                ui.showToUser(ui.getRepeatedCharacters("-", layout.getPartitionLength()));
                 continue;
             }
 
-            String colOne = (rowNumber >= 2 && arrayIndex < filteredTasks.size())
-                    ? String.valueOf(filteredTasks.get(arrayIndex).getIndex()) : "Task Number";
-            String colTwo = (rowNumber >= 2 && arrayIndex < filteredTasks.size())
-                    ? filteredTasks.get(arrayIndex).getStatusIcon() : "Mark Status";
-            String colThree = (rowNumber >= 2 && arrayIndex < filteredTasks.size())
-                    ? filteredTasks.get(arrayIndex).getDescription() : "Task Description";
-            String colFour = (rowNumber >= 2 && arrayIndex < filteredTasks.size())
-                    ? filteredTasks.get(arrayIndex).getDoOnDateString() : "To do/attend on";
-            String colFive = (rowNumber >= 2 && arrayIndex < filteredTasks.size())
-                    ? filteredTasks.get(arrayIndex).getByDateString() : "To complete by";
+            boolean hasTask = rowNumber >= 2 && arrayIndex < rowCount;
+            String colOne = hasTask ? layout.getCell(arrayIndex, CONDENSED_TASK_NUMBER_COLUMN) : "Task Number";
+            String colTwo = hasTask ? layout.getCell(arrayIndex, CONDENSED_MARK_STATUS_COLUMN) : "Mark Status";
+            String colThree = hasTask ? layout.getCell(arrayIndex, CONDENSED_DESCRIPTION_COLUMN) : "Task Description";
+            String colFour = hasTask ? layout.getCell(arrayIndex, CONDENSED_DO_ON_DATE_COLUMN) : "To do/attend on";
+            String colFive = hasTask ? layout.getCell(arrayIndex, CONDENSED_BY_DATE_COLUMN) : "To complete by";
             arrayIndex = (rowNumber >= 2) ? arrayIndex + 1 : arrayIndex;
 
             printCondensedTimetableRow(colOne, colTwo, colThree, colFour, colFive,
-                    taskDescriptionLength, byDateLength, doOnDateLength, taskNumberLength, rowNumber, ui);
+                    layout.getTaskDescriptionLength(), layout.getByDateLength(), layout.getDoOnDateLength(),
+                    layout.getTaskNumberLength(), rowNumber, ui);
         }
     }
 
@@ -0,0 +1,47 @@
+package seedu.sherpass.util;
+
+import seedu.sherpass.task.Task;
+
+import java.util.IdentityHashMap;
+import java.util.function.Function;
+
+public class EncodedTaskCache {
+    private final Function<Task, String> encoder;
+    private final IdentityHashMap<Task, String> encodedTasks = new IdentityHashMap<>();
+    private final IdentityHashMap<Task, Integer> encodedVersions = new IdentityHashMap<>();
+
+    /**
+     * Creates a cache of the encoded form of tasks.
+     *
+     * @param encoder Encodes a task into the form to be cached.
+     */
+    public EncodedTaskCache(Function<Task, String> encoder) {
+        this.encoder = encoder;
+    }
+
+    /**
+     * Returns the encoded form of a task.
+     * The task is only encoded again if it has been modified since it was last encoded.
+     *
+     * @param task The task to be encoded.
+     * @return The encoded form of the task.
+     */
+    public String getEncodedTask(Task task) {
+        Integer encodedVersion = encodedVersions.get(task);
+        if (encodedVersion == null || encodedVersion != task.getVersion()) {
+            encodedTasks.put(task, encoder.apply(task));
+            encodedVersions.put(task, task.getVersion());
+        }
+        return encodedTasks.get(task);
+    }
+
+    public void remove(Task task) {
+        encodedTasks.remove(task);
+        encodedVersions.remove(task);
+    }
+
+    public void clear() {
+        encodedTasks.clear();
+        encodedVersions.clear();
+    }
+}
@@ -4,27 +4,106 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
-import seedu.sherpass.enums.Frequency;
+import seedu.sherpass.enums.ChangeType;
+import seedu.sherpass.enums.Durability;
+import seedu.sherpass.enums.SaveFormat;
 import seedu.sherpass.exception.InvalidInputException;
 import seedu.sherpass.exception.TimeClashException;
+import seedu.sherpass.task.PartitionLoader;
+import seedu.sherpass.task.RecurrenceRule;
 import seedu.sherpass.task.Task;
+import seedu.sherpass.task.TaskChange;
+import seedu.sherpass.task.TaskDateComparator;
 import seedu.sherpass.task.TaskList;
+import seedu.sherpass.task.TaskUtil;
+import seedu.sherpass.util.parser.BinarySaveDataReader;
+import seedu.sherpass.util.parser.SaveDataReader;
 import seedu.sherpass.util.parser.StorageParser;
+import seedu.sherpass.util.parser.TaskDataReader;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileWriter;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+import static seedu.sherpass.constant.DateAndTimeFormat.fileNameTimeFormat;
 import static seedu.sherpass.constant.DateAndTimeFormat.inputWithTimeFormat;
 import static seedu.sherpass.constant.Index.INDEX_DIRECTORY;
 import static seedu.sherpass.constant.Index.INDENT_FACTOR;
+import static seedu.sherpass.constant.Message.CLASHING_SAVED_TASKS_MESSAGE;
+import static seedu.sherpass.constant.Message.ERROR_INVALID_SAVED_FILE_MESSAGE_2;
 import static seedu.sherpass.constant.Message.ERROR_IO_FAILURE_MESSAGE;
+import static seedu.sherpass.constant.Message.ERROR_MISSING_PARTITION_MESSAGE;
+import static seedu.sherpass.constant.Message.LS;
+import static seedu.sherpass.constant.Message.QUARANTINED_TASKS_MESSAGE_1;
+import static seedu.sherpass.constant.Message.QUARANTINED_TASKS_MESSAGE_2;
+import static seedu.sherpass.constant.StorageConstant.JOURNAL_COMPACTION_THRESHOLD;
+import static seedu.sherpass.constant.StorageConstant.BINARY_FLAG_DONE;
+import static seedu.sherpass.constant.StorageConstant.BINARY_FLAG_HAS_BY_DATE;
+import static seedu.sherpass.constant.StorageConstant.BINARY_FLAG_HAS_RECURRENCE_RULE;
+import static seedu.sherpass.constant.StorageConstant.BINARY_FORMAT_MAGIC;
+import static seedu.sherpass.constant.StorageConstant.BINARY_FORMAT_VERSION;
+import static seedu.sherpass.constant.StorageConstant.GZIP_FILE_EXTENSION;
+import static seedu.sherpass.constant.StorageConstant.GZIP_MAGIC_LENGTH;
+import static seedu.sherpass.constant.StorageConstant.JOURNAL_FILE_SUFFIX;
+import static seedu.sherpass.constant.StorageConstant.LEGACY_IDENTIFIER_LIMIT;
+import static seedu.sherpass.constant.StorageConstant.PARTITION_FILE_EXTENSION;
+import static seedu.sherpass.constant.StorageConstant.PARTITION_FILE_SEPARATOR;
+import static seedu.sherpass.constant.StorageConstant.QUARANTINE_FILE_EXTENSION;
+import static seedu.sherpass.constant.StorageConstant.QUARANTINE_FILE_PREFIX;
+import static seedu.sherpass.constant.StorageConstant.READ_BUFFER_SIZE;
+import static seedu.sherpass.constant.StorageConstant.TEMP_FILE_SUFFIX;
 
-public class Storage {
+public class Storage implements PartitionLoader {
     private final String saveFilePath;
+    private final String journalFilePath;
+    private final boolean isJournalEnabled;
+    private final Ui ui;
+    private int journalRecordCount;
+    private long journalSequence;
+    private Durability durability = Durability.FSYNC;
+    private volatile SaveFormat saveFormat = SaveFormat.JSON;
+    private final Object writeLock = new Object();
+    private final StringBuilder pendingJournalRecords = new StringBuilder();
+    private ByteBuffer pendingSnapshot;
+    private WriteBehindSaver saver;
+    private Thread shutdownFlush;
+    private boolean isPartitioned = false;
+    private boolean isCompressed;
+    private final TreeMap<YearMonth, ByteBuffer> pendingPartitions = new TreeMap<>();
+    private final EncodedTaskCache encodedTaskCache = new EncodedTaskCache(this::encodeTaskForSaveFile);
+    private final TreeMap<YearMonth, JSONObject> partitionEntries = new TreeMap<>();
+    private long nextIdentifier;
 
     /**
      * Creates a constructor for the class Storage.
@@ -34,92 +113,1261 @@ public class Storage {
      * @throws IOException If failed to read save file.
      */
     public Storage(String filePath) throws IOException {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a constructor for the class Storage.
+     * Initialises and creates location for save file if missing.
+     * If journaling is enabled, changes to the task list are appended to a journal
+     * next to the save file instead of rewriting the whole save file.
+     *
+     * @param filePath         Location of the save file.
+     * @param isJournalEnabled Whether changes should be journaled.
+     * @throws IOException If failed to read save file.
+     */
+    public Storage(String filePath, boolean isJournalEnabled) throws IOException {
+        this(filePath, isJournalEnabled, new Ui());
+    }
+
+    /**
+     * Creates a constructor for the class Storage.
+     * Initialises and creates location for save file if missing.
+     * Messages about the save file, e.g. quarantined tasks or failed saves, are shown through the given
+     * user interface, so they keep their place among the other messages it has buffered.
+     *
+     * @param filePath         Location of the save file.
+     * @param isJournalEnabled Whether changes should be journaled.
+     * @param ui               User interface which shows the messages of the storage.
+     * @throws IOException If failed to read save file.
+     */
+    public Storage(String filePath, boolean isJournalEnabled, Ui ui) throws IOException {
         saveFilePath = filePath;
-        System.out.println("Booting up...");
+        journalFilePath = filePath + JOURNAL_FILE_SUFFIX;
+        this.isJournalEnabled = isJournalEnabled;
+        this.ui = ui;
+        isCompressed = filePath.endsWith(GZIP_FILE_EXTENSION);
+        journalRecordCount = 0;
+        ui.showToUser("Booting up...");
         String[] directoryName = filePath.split("/");
         File saveDirectory = new File(directoryName[INDEX_DIRECTORY]);
         if (saveDirectory.mkdir()) {
-            System.out.println("Creating save directory...");
+            ui.showToUser("Creating save directory...");
         }
         File saveState = new File(filePath);
         if (saveState.createNewFile()) {
-            System.out.println("Creating new save state...");
+            ui.showToUser("Creating new save state...");
         }
     }
 
+    /**
+     * Sets how strongly saved data is forced to disk before a save is considered complete.
+     *
+     * @param durability The durability setting to use for future saves.
+     */
+    public void setDurability(Durability durability) {
+        this.durability = durability;
+    }
+
+    /**
+     * Splits the saved tasks into one save file per month, e.g. data/sherpass-2026-10.json.
+     * The save file then only holds a manifest of the months, and the tasks of a month are loaded when first needed.
+     * Each save only rewrites the months whose tasks have changed. The journal is not used.
+     * Must be called before loading.
+     */
+    public void enablePartitions() {
+        isPartitioned = true;
+    }
+
+    /**
+     * Compresses the save file and the partitions with gzip from the next save onwards.
+     * Save files ending with .gz are always compressed. Compressed files are recognised
+     * from their first bytes when loading, so they can still be read if compression is turned off again.
+     */
+    public void enableCompression() {
+        isCompressed = true;
+    }
+
     /**
      * Wipes the existing save file.
      */
     public void wipeSaveData() {
-        try {
-            FileWriter fw = new FileWriter(saveFilePath);
-            fw.close();
-        } catch (IOException e) {
-            System.out.println(ERROR_IO_FAILURE_MESSAGE);
-            System.exit(1);
+        synchronized (writeLock) {
+            try {
+                FileWriter fw = new FileWriter(saveFilePath);
+                fw.close();
+                Files.deleteIfExists(Paths.get(journalFilePath));
+            } catch (IOException e) {
+                ui.showToUserImmediately(ERROR_IO_FAILURE_MESSAGE);
+                System.exit(1);
+            }
+            synchronized (this) {
+                pendingSnapshot = null;
+                pendingJournalRecords.setLength(0);
+                pendingPartitions.clear();
+                partitionEntries.clear();
+                journalRecordCount = 0;
+                journalSequence = 0;
+            }
         }
     }
 
     /**
-     * Returns the JSON representation of the task list.
+     * Returns the JSON representation of a task.
      *
-     * @param taskList The task list to be converted into JSON format.
-     * @return JSONObject containing the tasks in the task list.
+     * @param t The task to be converted into JSON format.
+     * @return JSONObject containing the details of the task.
      */
-    private JSONObject convertTaskListToJson(TaskList taskList) {
-        JSONObject json = new JSONObject();
-        JSONArray tasks = new JSONArray();
-        for (Task t : taskList.getTasks()) {
-            JSONObject taskToStore = new JSONObject();
-            taskToStore.put("identifier", t.getIdentifier());
-            taskToStore.put("status", t.getStatusIcon());
-            taskToStore.put("by_date",
-                    (t.getByDateTime() == null ? " " : t.getByDateTime().format(inputWithTimeFormat)));
-            taskToStore.put("do_date_start", t.getDoOnStartDateTime().format(inputWithTimeFormat));
-            taskToStore.put("do_date_end", t.getDoOnEndDateTime().format(inputWithTimeFormat));
-            taskToStore.put("description", t.getDescription());
-            tasks.put(taskToStore);
+    private JSONObject convertTaskToJson(Task t) {
+        JSONObject taskToStore = new JSONObject();
+        taskToStore.put("identifier", t.getIdentifier());
+        taskToStore.put("status", t.getStatusIcon());
+        taskToStore.put("by_date",
+                (t.getByDateTime() == null ? " " : t.getByDateTime().format(inputWithTimeFormat)));
+        taskToStore.put("do_date_start", t.getDoOnStartDateTime().format(inputWithTimeFormat));
+        taskToStore.put("do_date_end", t.getDoOnEndDateTime().format(inputWithTimeFormat));
+        taskToStore.put("description", t.getDescription());
+        if (t.getRecurrenceRule() != null) {
+            taskToStore.put("repeat", convertRuleToJson(t.getRecurrenceRule()));
         }
-        json.put("tasks", tasks);
-        return json;
+        return taskToStore;
+    }
+
+    private JSONObject convertRuleToJson(RecurrenceRule rule) {
+        JSONObject ruleToStore = new JSONObject();
+        ruleToStore.put("frequency", rule.getFrequency().name().toLowerCase());
+        ruleToStore.put("by_date", (rule.getFirstByDateTime() == null
+                ? " " : rule.getFirstByDateTime().format(inputWithTimeFormat)));
+        ruleToStore.put("do_date_start", rule.getFirstStartDateTime().format(inputWithTimeFormat));
+        ruleToStore.put("do_date_end", rule.getFirstEndDateTime().format(inputWithTimeFormat));
+        return ruleToStore;
     }
 
     /**
-     * Overwrites existing saved data in save file with new data.
+     * Returns the JSON representation of the occurrences of a recurring task.
+     * Only the rule of the recurring task is stored, together with the range of steps of the occurrences,
+     * the steps within that range which no longer have an occurrence and the steps of the occurrences marked as done.
+     *
+     * @param occurrences The occurrences of a recurring task in date order, which all match its rule.
+     * @return JSONObject containing the rule and the occurrences of the recurring task.
+     */
+    private JSONObject convertRecurringTaskToJson(ArrayList<Task> occurrences) {
+        Task firstOccurrence = occurrences.get(0);
+        RecurrenceRule rule = firstOccurrence.getRecurrenceRule();
+        TreeSet<Integer> steps = new TreeSet<>();
+        JSONArray doneSteps = new JSONArray();
+        for (Task occurrence : occurrences) {
+            int step = rule.findStep(occurrence);
+            steps.add(step);
+            if (occurrence.isDone()) {
+                doneSteps.put(step);
+            }
+        }
+        JSONArray skippedSteps = new JSONArray();
+        for (int step = steps.first(); step < steps.last(); step++) {
+            if (!steps.contains(step)) {
+                skippedSteps.put(step);
+            }
+        }
+        JSONObject recurringTaskToStore = new JSONObject();
+        recurringTaskToStore.put("identifier", firstOccurrence.getIdentifier());
+        recurringTaskToStore.put("description", firstOccurrence.getDescription());
+        recurringTaskToStore.put("repeat", convertRuleToJson(rule));
+        recurringTaskToStore.put("first_step", steps.first());
+        recurringTaskToStore.put("count", steps.last() - steps.first() + 1);
+        recurringTaskToStore.put("skipped", skippedSteps);
+        recurringTaskToStore.put("done", doneSteps);
+        return recurringTaskToStore;
+    }
+
+    /**
+     * Splits the tasks into the occurrences of each recurring task, which can be stored as the rule
+     * of the recurring task, and the remaining tasks, which are stored one by one.
+     * An occurrence which has been edited so that it no longer matches the rule of its recurring task
+     * is stored on its own.
+     *
+     * @param tasks           The tasks to be split.
+     * @param singleTasks     List to add the tasks to be stored one by one to.
+     * @param recurringTasks  Map to add the occurrences of each recurring task to, by identifier.
+     */
+    private void groupRecurringTasks(ArrayList<Task> tasks, ArrayList<Task> singleTasks,
+                                     LinkedHashMap<Integer, ArrayList<Task>> recurringTasks) {
+        for (Task task : tasks) {
+            RecurrenceRule rule = task.getRecurrenceRule();
+            if (rule == null || rule.findStep(task) < 0) {
+                singleTasks.add(task);
+                continue;
+            }
+            ArrayList<Task> occurrences = recurringTasks.computeIfAbsent(task.getIdentifier(),
+                key -> new ArrayList<>());
+            if (occurrences.isEmpty() || (rule.equals(occurrences.get(0).getRecurrenceRule())
+                    && task.getDescription().equals(occurrences.get(0).getDescription()))) {
+                occurrences.add(task);
+            } else {
+                singleTasks.add(task);
+            }
+        }
+    }
+
+    /**
+     * Returns the JSON text of the task list, as stored in the save file.
+     * The text of each task is taken from the cache, so only tasks modified since the last save are encoded.
+     *
+     * @param taskList        The tasks to be converted into JSON format.
+     * @param journalSequence Sequence number of the last journal record contained in the tasks.
+     * @return String containing the JSON text of the tasks.
+     */
+    private String convertTaskListToJson(ArrayList<Task> taskList, long journalSequence) {
+        ArrayList<Task> singleTasks = new ArrayList<>();
+        LinkedHashMap<Integer, ArrayList<Task>> recurringTasks = new LinkedHashMap<>();
+        groupRecurringTasks(taskList, singleTasks, recurringTasks);
+        String indent = " ".repeat(INDENT_FACTOR);
+        StringBuilder json = new StringBuilder();
+        json.append("{\n").append(indent).append("\"journal_sequence\": ").append(journalSequence).append(",\n");
+        json.append(indent).append("\"next_identifier\": ").append(nextIdentifier).append(",\n");
+        json.append(indent).append("\"tasks\": [");
+        String separator = "\n";
+        for (Task task : singleTasks) {
+            json.append(separator).append(encodedTaskCache.getEncodedTask(task));
+            separator = ",\n";
+        }
+        for (ArrayList<Task> occurrences : recurringTasks.values()) {
+            json.append(separator).append(indentForSaveFile(convertRecurringTaskToJson(occurrences)));
+            separator = ",\n";
+        }
+        json.append(taskList.isEmpty() ? "" : "\n" + indent).append("]\n}");
+        return json.toString();
+    }
+
+    /**
+     * Returns the JSON text of a task, indented to its place in the "tasks" array of the save file.
+     *
+     * @param t The task to be converted into JSON format.
+     * @return String containing the JSON text of the task.
+     */
+    private String encodeTaskForSaveFile(Task t) {
+        return indentForSaveFile(convertTaskToJson(t));
+    }
+
+    private String indentForSaveFile(JSONObject taskData) {
+        String indent = " ".repeat(2 * INDENT_FACTOR);
+        return indent + taskData.toString(INDENT_FACTOR).replace("\n", "\n" + indent);
+    }
+
+    /**
+     * Returns the JSON representation of a change made to the task list.
+     * Each change is stored as a single line in the journal.
+     * Renaming a recurring task is stored as its first occurrence and its identifier before the change,
+     * instead of as every occurrence.
+     *
+     * @param change The change to be converted into JSON format.
+     * @return JSONObject containing the type of change and the task changed.
+     */
+    private JSONObject convertChangeToJson(TaskChange change) {
+        JSONObject record = new JSONObject();
+        record.put("op", change.getType().name().toLowerCase());
+        if (change.getTask() != null) {
+            record.put("task", convertTaskToJson(change.getTask()));
+        }
+        if (change.getType() == ChangeType.RENAME) {
+            record.put("previous_identifier", change.getPreviousIdentifier());
+        }
+        return record;
+    }
+
+    /**
+     * Saves the changes made to the task list.
+     * If journaling is enabled, only the changes made since the last save are appended to the journal.
+     * Otherwise, or once the journal grows too long, the save file is overwritten with the whole task list.
+     * In write-behind mode, the save is only queued and is written later by the saver thread.
      *
      * @param taskList Array of tasks that are to be saved.
      */
     public void writeSaveData(TaskList taskList) {
-        JSONObject taskJson = convertTaskListToJson(taskList);
-        String taskString = taskJson.toString(INDENT_FACTOR);
-        assert taskString != null;
+        ArrayList<TaskChange> changes = taskList.drainChanges();
+        synchronized (this) {
+            forgetRemovedTasks(changes);
+        }
+        if (isPartitioned) {
+            queueChangedPartitions(taskList, changes);
+        } else {
+            synchronized (this) {
+                nextIdentifier = taskList.getNextIdentifier();
+                if (!isJournalEnabled || hasToCompactJournal(changes)) {
+                    queueSnapshot(taskList);
+                } else {
+                    queueJournalRecords(changes);
+                }
+            }
+        }
+        if (saver == null) {
+            flush();
+        } else {
+            saver.requestSave();
+        }
+    }
+
+    /**
+     * Drops the encoded text of tasks that are no longer in the task list.
+     *
+     * @param changes Changes made to the task list since the last save.
+     */
+    private void forgetRemovedTasks(ArrayList<TaskChange> changes) {
+        for (TaskChange change : changes) {
+            if (change.getType() == ChangeType.CLEAR) {
+                encodedTaskCache.clear();
+            } else if (change.getType() == ChangeType.REMOVE) {
+                encodedTaskCache.remove(change.getTask());
+            }
+        }
+    }
+
+    /**
+     * Drops the encoded text of tasks that have been moved out of the task list, e.g. into an archive,
+     * so that the cache does not keep them in memory.
+     *
+     * @param tasks The tasks moved out of the task list.
+     */
+    public synchronized void forgetTasks(ArrayList<Task> tasks) {
+        for (Task task : tasks) {
+            encodedTaskCache.remove(task);
+        }
+    }
+
+    /**
+     * Queues a snapshot of every task, including the tasks of archived months,
+     * without moving the archived months back into the task list.
+     * The archived tasks are recreated only to be encoded, so their encoded text is not kept in the cache.
+     *
+     * @param taskList The task list to be saved.
+     */
+    private void queueSnapshot(TaskList taskList) {
+        nextIdentifier = taskList.getNextIdentifier();
+        ArrayList<Task> archivedTasks = taskList.getArchivedTasks();
+        // Partitions are not used, so every month is either loaded or archived
+        ArrayList<Task> tasks = new ArrayList<>(taskList.getLoadedTasks());
+        tasks.addAll(archivedTasks);
+        queueSnapshot(tasks);
+        forgetTasks(archivedTasks);
+    }
+
+    /**
+     * Queues a snapshot of the tasks, which replaces any save still waiting to be written.
+     * The tasks are encoded right away so that later changes to the task list do not affect the snapshot.
+     *
+     * @param tasks The tasks to be saved.
+     */
+    private void queueSnapshot(ArrayList<Task> tasks) {
+        pendingSnapshot = convertTaskListToSaveFormat(tasks, journalSequence);
+        pendingJournalRecords.setLength(0);
+        journalRecordCount = 0;
+    }
+
+    /**
+     * Queues the partitions of the months affected by the changes to be rewritten.
+     * Clearing the task list affects every month that has been saved,
+     * and renaming a recurring task affects the months from its first occurrence to its last.
+     *
+     * @param taskList The task list the changes were made to.
+     * @param changes  Changes made to the task list since the last save.
+     */
+    private void queueChangedPartitions(TaskList taskList, ArrayList<TaskChange> changes) {
+        TreeSet<YearMonth> changedMonths = new TreeSet<>();
+        synchronized (this) {
+            nextIdentifier = taskList.getNextIdentifier();
+        }
+        for (TaskChange change : changes) {
+            if (change.getType() == ChangeType.CLEAR) {
+                synchronized (this) {
+                    changedMonths.addAll(partitionEntries.keySet());
+                }
+            } else {
+                YearMonth lastMonth = YearMonth.from(change.getLastTask().getDoOnStartDateTime());
+                for (YearMonth month = YearMonth.from(change.getTask().getDoOnStartDateTime());
+                        !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                    changedMonths.add(month);
+                }
+            }
+        }
+        for (YearMonth month : changedMonths) {
+            ArrayList<Task> monthlyTasks;
+            try {
+                monthlyTasks = taskList.getFilteredTasksByMonth(month.atDay(1));
+            } catch (InvalidInputException e) {
+                // A month with changes has been loaded, and a cleared task list has no months left to load
+                throw new AssertionError(e);
+            }
+            synchronized (this) {
+                queuePartition(month, monthlyTasks);
+            }
+        }
+    }
+
+    /**
+     * Queues the tasks of a month to be written to its partition, and updates the manifest entry of the month.
+     *
+     * @param month The month of the partition.
+     * @param tasks The tasks starting in the month.
+     */
+    private void queuePartition(YearMonth month, ArrayList<Task> tasks) {
+        if (tasks.isEmpty()) {
+            // An empty partition is deleted instead of being written
+            pendingPartitions.put(month, null);
+            partitionEntries.remove(month);
+            return;
+        }
+        pendingPartitions.put(month, convertTaskListToSaveFormat(tasks, 0));
+        int pendingCount = 0;
+        for (Task t : tasks) {
+            if (!t.isDone()) {
+                pendingCount++;
+            }
+        }
+        JSONObject entry = new JSONObject();
+        entry.put("month", month.toString());
+        entry.put("tasks", tasks.size());
+        entry.put("pending", pendingCount);
+        partitionEntries.put(month, entry);
+    }
+
+    private void queueAllPartitions(ArrayList<Task> tasks) {
+        TreeMap<YearMonth, ArrayList<Task>> monthlyTasks = new TreeMap<>();
+        for (YearMonth month : partitionEntries.keySet()) {
+            monthlyTasks.put(month, new ArrayList<>());
+        }
+        for (Task t : tasks) {
+            monthlyTasks.computeIfAbsent(YearMonth.from(t.getDoOnStartDateTime()), month -> new ArrayList<>()).add(t);
+        }
+        for (YearMonth month : monthlyTasks.keySet()) {
+            queuePartition(month, monthlyTasks.get(month));
+        }
+    }
+
+    /**
+     * Queues the changes to be appended to the journal, one record per line.
+     * Each record is numbered so that records already contained in the save file are not replayed again,
+     * and keeps the next identifier so that the identifiers of removed tasks are not given out again after a restart.
+     *
+     * @param changes Changes made to the task list since the last save.
+     */
+    private void queueJournalRecords(ArrayList<TaskChange> changes) {
+        for (TaskChange change : changes) {
+            journalSequence++;
+            JSONObject record = convertChangeToJson(change).put("seq", journalSequence)
+                    .put("next_identifier", nextIdentifier);
+            pendingJournalRecords.append(record).append(LS);
+        }
+        journalRecordCount += changes.size();
+    }
+
+    /**
+     * Writes any queued save to disk and returns once it is done.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            ByteBuffer snapshot;
+            String journalRecords;
+            TreeMap<YearMonth, ByteBuffer> partitions = null;
+            JSONObject manifest = null;
+            synchronized (this) {
+                snapshot = pendingSnapshot;
+                journalRecords = pendingJournalRecords.toString();
+                pendingSnapshot = null;
+                pendingJournalRecords.setLength(0);
+                if (!pendingPartitions.isEmpty()) {
+                    partitions = new TreeMap<>(pendingPartitions);
+                    manifest = convertManifestToJson();
+                    pendingPartitions.clear();
+                }
+            }
+            if (snapshot != null) {
+                writeSnapshot(snapshot);
+            }
+            if (partitions != null) {
+                writePartitions(partitions, manifest);
+            }
+            if (!journalRecords.isEmpty()) {
+                appendToJournal(journalRecords);
+            }
+        }
+    }
+
+    /**
+     * Moves saving off the thread that changes the task list.
+     * Saves are queued and written by a background thread once no further save has been requested
+     * for the quiet period, so a burst of commands is written only once.
+     * Queued saves are also written when the program shuts down.
+     *
+     * @param quietPeriodMillis Time in milliseconds without any save request before the saves are written.
+     */
+    public void enableWriteBehind(long quietPeriodMillis) {
+        saver = new WriteBehindSaver(this, quietPeriodMillis);
+        saver.start();
+        shutdownFlush = new Thread(this::flush);
+        Runtime.getRuntime().addShutdownHook(shutdownFlush);
+    }
+
+    /**
+     * Writes any save that is still queued, then stops the saver thread and removes its shutdown hook.
+     * Saves requested afterwards are written straight away.
+     */
+    public void close() {
+        if (saver == null) {
+            flush();
+            return;
+        }
+        saver.close();
+        saver = null;
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownFlush);
+        } catch (IllegalStateException e) {
+            // The program is already shutting down, so the hook runs anyway
+        }
+        shutdownFlush = null;
+    }
+
+    private boolean hasToCompactJournal(ArrayList<TaskChange> changes) {
+        if (journalRecordCount + changes.size() > JOURNAL_COMPACTION_THRESHOLD) {
+            return true;
+        }
+        for (TaskChange change : changes) {
+            if (change.getType() == ChangeType.CLEAR) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Overwrites existing saved data in save file with new data.
+     * Any journal is discarded as its changes are now part of the save file.
+     *
+     * @param content The tasks to be saved, already converted into the save format.
+     */
+    private void writeSnapshot(ByteBuffer content) {
         try {
-            FileWriter writer = new FileWriter(saveFilePath);
-            writer.write(taskString);
-            writer.close();
+            writeFileAtomically(Paths.get(saveFilePath), content);
+            if (isJournalEnabled) {
+                Files.deleteIfExists(Paths.get(journalFilePath));
+            }
         } catch (IOException e) {
-            System.out.println(ERROR_IO_FAILURE_MESSAGE);
+            ui.showToUserImmediately(ERROR_IO_FAILURE_MESSAGE);
+        }
+    }
+
+    private ByteBuffer convertTaskListToSaveFormat(ArrayList<Task> taskList, long journalSequence) {
+        if (saveFormat == SaveFormat.BINARY) {
+            return convertTaskListToBytes(taskList, journalSequence);
+        }
+        return StandardCharsets.UTF_8.encode(convertTaskListToJson(taskList, journalSequence));
+    }
+
+    /**
+     * Writes the partitions of some months and then the manifest of all months into the save file.
+     * Partitions left without any tasks are deleted only after the manifest no longer lists them.
+     *
+     * @param partitions Tasks of each month to be written, already converted into the save format,
+     *                   or null for months left without any tasks.
+     * @param manifest   Manifest listing every month that has tasks.
+     */
+    private void writePartitions(TreeMap<YearMonth, ByteBuffer> partitions, JSONObject manifest) {
+        try {
+            for (YearMonth month : partitions.keySet()) {
+                if (partitions.get(month) != null) {
+                    writeFileAtomically(getPartitionPath(month), partitions.get(month));
+                }
+            }
+            writeFileAtomically(Paths.get(saveFilePath),
+                    StandardCharsets.UTF_8.encode(manifest.toString(INDENT_FACTOR)));
+            for (YearMonth month : partitions.keySet()) {
+                if (partitions.get(month) == null) {
+                    Files.deleteIfExists(getPartitionPath(month));
+                }
+            }
+            Files.deleteIfExists(Paths.get(journalFilePath));
+        } catch (IOException e) {
+            ui.showToUserImmediately(ERROR_IO_FAILURE_MESSAGE);
+        }
+    }
+
+    /**
+     * Returns the manifest of the partitions, which is stored in the save file.
+     * Each month with tasks is listed with its number of tasks and of pending tasks,
+     * so that the pending tasks can be counted without loading the month.
+     * The next identifier to be given to a new task is also kept, as the tasks of every month would otherwise
+     * have to be loaded to find an identifier that is not in use.
+     *
+     * @return JSONObject containing the save format and the months with tasks.
+     */
+    private JSONObject convertManifestToJson() {
+        JSONObject manifest = new JSONObject();
+        JSONArray partitions = new JSONArray();
+        for (JSONObject entry : partitionEntries.values()) {
+            partitions.put(entry);
+        }
+        manifest.put("format", saveFormat.name().toLowerCase());
+        manifest.put("next_identifier", nextIdentifier);
+        manifest.put("partitions", partitions);
+        manifest.put("tasks", new JSONArray());
+        return manifest;
+    }
+
+    /**
+     * Returns the path of the partition of a month, which is named after the save file and the month,
+     * e.g. data/sherpass-2026-10.json for the save file data/sherpass.json,
+     * so that save files in the same folder keep their partitions apart.
+     *
+     * @param month The month of the partition.
+     * @return Path of the partition.
+     */
+    private Path getPartitionPath(YearMonth month) {
+        String fileExtension = PARTITION_FILE_EXTENSION;
+        String saveFileName = Paths.get(saveFilePath).getFileName().toString();
+        if (saveFileName.endsWith(GZIP_FILE_EXTENSION)) {
+            fileExtension += GZIP_FILE_EXTENSION;
+            saveFileName = saveFileName.substring(0, saveFileName.length() - GZIP_FILE_EXTENSION.length());
+        }
+        int extensionIndex = saveFileName.lastIndexOf('.');
+        if (extensionIndex > 0) {
+            saveFileName = saveFileName.substring(0, extensionIndex);
+        }
+        return Paths.get(saveFilePath).resolveSibling(saveFileName + PARTITION_FILE_SEPARATOR + month
+                + fileExtension);
+    }
+
+    /**
+     * Returns the binary representation of the task list.
+     * The header holds the format version, the journal sequence number, the next identifier and the number of tasks.
+     * It is followed by a table of the distinct descriptions, each prefixed by its length in UTF-8 bytes,
+     * a table of the distinct recurrence rules, and then by one fixed-size record per task
+     * with its dates stored as minutes since the epoch and the position of its rule, if any, in the rule table.
+     *
+     * @param tasks           The tasks to be converted into the binary format.
+     * @param journalSequence Sequence number of the last journal record contained in the tasks.
+     * @return ByteBuffer containing the tasks.
+     */
+    private ByteBuffer convertTaskListToBytes(ArrayList<Task> tasks, long journalSequence) {
+        LinkedHashMap<String, Integer> stringTable = new LinkedHashMap<>();
+        LinkedHashMap<RecurrenceRule, Integer> ruleTable = new LinkedHashMap<>();
+        for (Task t : tasks) {
+            stringTable.putIfAbsent(t.getDescription(), stringTable.size());
+            if (t.getRecurrenceRule() != null) {
+                ruleTable.putIfAbsent(t.getRecurrenceRule(), ruleTable.size());
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(BINARY_FORMAT_MAGIC);
+            output.writeShort(BINARY_FORMAT_VERSION);
+            output.writeLong(journalSequence);
+            output.writeLong(nextIdentifier);
+            output.writeInt(tasks.size());
+            output.writeInt(stringTable.size());
+            for (String description : stringTable.keySet()) {
+                byte[] descriptionBytes = description.getBytes(StandardCharsets.UTF_8);
+                output.writeInt(descriptionBytes.length);
+                output.write(descriptionBytes);
+            }
+            output.writeInt(ruleTable.size());
+            for (RecurrenceRule rule : ruleTable.keySet()) {
+                output.writeByte(rule.getFrequency().ordinal());
+                output.writeByte(rule.getFirstByDateTime() == null ? 0 : BINARY_FLAG_HAS_BY_DATE);
+                output.writeInt(toEpochMinute(rule.getFirstStartDateTime()));
+                output.writeInt(toEpochMinute(rule.getFirstEndDateTime()));
+                output.writeInt(rule.getFirstByDateTime() == null ? 0 : toEpochMinute(rule.getFirstByDateTime()));
+            }
+            for (Task t : tasks) {
+                output.writeInt(t.getIdentifier());
+                output.writeInt(stringTable.get(t.getDescription()));
+                output.writeByte((t.isDone() ? BINARY_FLAG_DONE : 0)
+                        | (t.getByDateTime() == null ? 0 : BINARY_FLAG_HAS_BY_DATE)
+                        | (t.getRecurrenceRule() == null ? 0 : BINARY_FLAG_HAS_RECURRENCE_RULE));
+                output.writeInt(toEpochMinute(t.getDoOnStartDateTime()));
+                output.writeInt(toEpochMinute(t.getDoOnEndDateTime()));
+                output.writeInt(t.getByDateTime() == null ? 0 : toEpochMinute(t.getByDateTime()));
+                output.writeInt(t.getRecurrenceRule() == null ? 0 : ruleTable.get(t.getRecurrenceRule()));
+            }
+        } catch (IOException e) {
+            // Writing to a byte array does not throw
+            throw new AssertionError(e);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    private int toEpochMinute(LocalDateTime dateTime) {
+        return Math.toIntExact(dateTime.toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+
+    /**
+     * Rewrites the save file in another format.
+     * The journal, if any, is folded into the save file at the same time.
+     *
+     * @param taskList   The tasks to be saved.
+     * @param saveFormat The format to store the save file in.
+     * @throws InvalidInputException If the saved tasks of a month cannot be loaded to be saved again.
+     */
+    public void convertSaveFile(TaskList taskList, SaveFormat saveFormat) throws InvalidInputException {
+        ArrayList<Task> tasks = isPartitioned ? taskList.getTasks() : null;
+        synchronized (this) {
+            this.saveFormat = saveFormat;
+            nextIdentifier = taskList.getNextIdentifier();
+            taskList.drainChanges();
+            if (isPartitioned) {
+                queueAllPartitions(tasks);
+                // The tasks of archived months are copies made only to be saved
+                Set<Task> loadedTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+                loadedTasks.addAll(taskList.getLoadedTasks());
+                tasks.removeIf(loadedTasks::contains);
+                forgetTasks(tasks);
+            } else {
+                queueSnapshot(taskList);
+            }
+        }
+        flush();
+    }
+
+    public SaveFormat getSaveFormat() {
+        return saveFormat;
+    }
+
+    /**
+     * Replaces the content of a file such that a crash at any point leaves either the old or the new content.
+     * The content is written to a temporary file next to the file, forced to disk according to the
+     * durability setting, and then moved over the file.
+     *
+     * @param filePath Location of the file to be replaced.
+     * @param content  The new content of the file.
+     * @throws IOException If an I/O error occurs while writing or moving the file.
+     */
+    private void writeFileAtomically(Path filePath, ByteBuffer content) throws IOException {
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (isCompressed) {
+                writeCompressed(channel, content);
+            } else {
+                writeFully(channel, content);
+            }
+            if (durability != Durability.NONE) {
+                channel.force(true);
+            }
+        }
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (durability == Durability.FSYNC_DIRECTORY) {
+            syncDirectory(filePath);
+        }
+    }
+
+    private void writeFully(WritableByteChannel channel, ByteBuffer content) throws IOException {
+        while (content.hasRemaining()) {
+            channel.write(content);
+        }
+    }
+
+    /**
+     * Compresses the content with gzip while it is written, so the compressed file is never held in memory.
+     * The gzip stream is closed so that its native compressor is freed after every save,
+     * but the channel is left open so that it can still be forced to disk.
+     *
+     * @param channel Channel of the file to write to.
+     * @param content Uncompressed content of the file.
+     */
+    private void writeCompressed(FileChannel channel, ByteBuffer content) throws IOException {
+        OutputStream fileOutput = new FilterOutputStream(Channels.newOutputStream(channel)) {
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                out.write(bytes, offset, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+        try (GZIPOutputStream output = new GZIPOutputStream(fileOutput, READ_BUFFER_SIZE)) {
+            writeFully(Channels.newChannel(output), content);
+        }
+    }
+
+    /**
+     * Opens the content of a file, which is decompressed while it is read if the file starts with the gzip magic bytes.
+     *
+     * @param filePath Location of the file.
+     * @return InputStream of the uncompressed content of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    private InputStream openFileContent(Path filePath) throws IOException {
+        InputStream input = new BufferedInputStream(Files.newInputStream(filePath), READ_BUFFER_SIZE);
+        try {
+            input.mark(GZIP_MAGIC_LENGTH);
+            byte[] magic = input.readNBytes(GZIP_MAGIC_LENGTH);
+            input.reset();
+            if (magic.length == GZIP_MAGIC_LENGTH
+                    && ((magic[0] & 0xff) | (magic[1] & 0xff) << 8) == GZIPInputStream.GZIP_MAGIC) {
+                input = new GZIPInputStream(input, READ_BUFFER_SIZE);
+            }
+        } catch (IOException e) {
+            input.close();
+            throw e;
+        }
+        return input;
+    }
+
+    /**
+     * Forces the directory entry of a file to disk, so that a newly created or renamed file survives a crash.
+     * Some platforms do not allow directories to be opened, in which case this does nothing.
+     *
+     * @param filePath Location of the file in the directory.
+     */
+    private void syncDirectory(Path filePath) {
+        Path directoryPath = filePath.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directoryPath, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The rename has still been made, it is only not guaranteed to survive a crash
+        }
+    }
+
+    /**
+     * Appends records to the end of the journal.
+     *
+     * @param journalRecords Records to be appended, one record per line.
+     */
+    private void appendToJournal(String journalRecords) {
+        Path journalPath = Paths.get(journalFilePath);
+        boolean isNewJournal = !Files.exists(journalPath);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writeFully(channel, StandardCharsets.UTF_8.encode(journalRecords));
+            if (durability != Durability.NONE) {
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            ui.showToUserImmediately(ERROR_IO_FAILURE_MESSAGE);
+            return;
+        }
+        if (isNewJournal && durability == Durability.FSYNC_DIRECTORY) {
+            syncDirectory(journalPath);
+        }
+    }
+
+    private String getTaskKey(Task task) {
+        return task.getDoOnStartDateTime().format(inputWithTimeFormat);
+    }
+
+    /**
+     * Replays the changes recorded in the journal onto the tasks loaded from the save file.
+     * Tasks are matched by their start date and time, which no two tasks can share.
+     * The largest next identifier recorded in the replayed records is kept in nextIdentifier.
+     *
+     * @param loadedTasks Tasks loaded from the save file.
+     * @throws IOException           If an I/O error occurs while reading the journal
+     * @throws InvalidInputException If a record in the journal has missing fields for a task
+     * @throws JSONException         If a record in the journal has an invalid JSON format
+     */
+    private void replayJournal(LinkedHashMap<String, Task> loadedTasks, long savedJournalSequence)
+            throws IOException, InvalidInputException, JSONException {
+        File journalFile = new File(journalFilePath);
+        if (!journalFile.exists()) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath())) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                if (!line.isBlank()) {
+                    JSONObject record = parseJournalRecord(line, nextLine == null);
+                    if (record != null && record.getLong("seq") > savedJournalSequence) {
+                        replayJournalRecord(loadedTasks, record);
+                        journalSequence = record.getLong("seq");
+                        nextIdentifier = Math.max(nextIdentifier, record.optLong("next_identifier", 0));
+                    }
+                }
+                line = nextLine;
+            }
+        }
+    }
+
+    /**
+     * Returns a record from the journal in JSON.
+     * The last record may have been cut short by a crash while it was being appended,
+     * in which case it is ignored as its change was never completed.
+     *
+     * @param line         A line in the journal.
+     * @param isLastRecord Whether the line is the last line of the journal.
+     * @return JSONObject of the record, or null if the last record is incomplete.
+     * @throws JSONException If a record other than the last record has an invalid JSON format.
+     */
+    private JSONObject parseJournalRecord(String line, boolean isLastRecord) throws JSONException {
+        try {
+            return new JSONObject(line);
+        } catch (JSONException e) {
+            if (!isLastRecord) {
+                throw e;
+            }
+            return null;
+        }
+    }
+
+    private void replayJournalRecord(LinkedHashMap<String, Task> loadedTasks, JSONObject record)
+            throws InvalidInputException, JSONException {
+        ChangeType type = StorageParser.parseChangeType(record);
+        if (type == ChangeType.CLEAR) {
+            loadedTasks.clear();
+            return;
+        }
+        Task task = StorageParser.parseSaveData(record.getJSONObject("task"));
+        if (type == ChangeType.PUT) {
+            loadedTasks.put(getTaskKey(task), task);
+        } else if (type == ChangeType.RENAME) {
+            renameLoadedOccurrences(loadedTasks, task, record.getInt("previous_identifier"));
+        } else {
+            loadedTasks.remove(getTaskKey(task));
+        }
+    }
+
+    /**
+     * Gives the details of a renamed recurring task to the loaded occurrences it was renamed from,
+     * i.e. the occurrences with its previous identifier starting from its first occurrence.
+     *
+     * @param loadedTasks        Tasks loaded from the save file.
+     * @param renamedTask        The first occurrence of the renamed task.
+     * @param previousIdentifier The identifier of the occurrences before they were renamed.
+     */
+    private void renameLoadedOccurrences(LinkedHashMap<String, Task> loadedTasks, Task renamedTask,
+                                         int previousIdentifier) {
+        for (Task task : loadedTasks.values()) {
+            if (task.getIdentifier() == previousIdentifier
+                    && task.getDoOnStartMinute() >= renamedTask.getDoOnStartMinute()) {
+                task.editTask(renamedTask.getIdentifier(), renamedTask.getDescription(), 0, 0, 0);
+                task.setRecurrenceRule(renamedTask.getRecurrenceRule());
+            }
+        }
+    }
+
+    /**
+     * Returns the format of a save file, read from the first bytes of its uncompressed content.
+     *
+     * @param filePath Location of the save file.
+     * @return The format of the save file.
+     * @throws IOException If the save file cannot be read.
+     */
+    private SaveFormat detectSaveFormat(Path filePath) throws IOException {
+        byte[] magic;
+        try (InputStream input = openFileContent(filePath)) {
+            magic = input.readNBytes(Integer.BYTES);
+        }
+        if (magic.length == Integer.BYTES && ByteBuffer.wrap(magic).getInt() == BINARY_FORMAT_MAGIC) {
+            return SaveFormat.BINARY;
+        }
+        return SaveFormat.JSON;
+    }
+
+    /**
+     * Opens a reader for the tasks in a save file, decompressing the save file while it is read if needed.
+     *
+     * @param filePath   Location of the save file.
+     * @param fileFormat Format of the save file.
+     * @return Reader for the tasks in the save file.
+     * @throws IOException           If the save file cannot be read.
+     * @throws InvalidInputException If the save file is in the binary format but is invalid.
+     * @throws JSONException         If the save file is in the JSON format but is invalid.
+     */
+    private TaskDataReader openSaveFile(Path filePath, SaveFormat fileFormat)
+            throws IOException, InvalidInputException, JSONException {
+        InputStream input = openFileContent(filePath);
+        try {
+            if (fileFormat == SaveFormat.BINARY) {
+                return new BinarySaveDataReader(input);
+            }
+            return new SaveDataReader(input);
+        } catch (IOException | InvalidInputException | JSONException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    private ArrayList<Task> readSaveFile(Path filePath) throws IOException, InvalidInputException, JSONException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        try (TaskDataReader reader = openSaveFile(filePath, detectSaveFormat(filePath))) {
+            while (reader.hasNextTask()) {
+                tasks.add(reader.nextTask());
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Moves the tasks which clash with an earlier task out of the loaded tasks and into a quarantine file
+     * next to the save file, so that the rest of the tasks can still be loaded.
+     * The tasks are sorted once and swept for clashes in a single pass, and every clashing pair is shown.
+     * The tasks in the quarantine file are not loaded again, so they can be added back at another time.
+     *
+     * @param tasks The loaded tasks, which are sorted by start date and time, without the clashing tasks.
+     * @return True if any tasks were quarantined.
+     * @throws IOException If the quarantine file cannot be written.
+     */
+    private boolean quarantineClashingTasks(ArrayList<Task> tasks) throws IOException {
+        return quarantineClashingTasks(tasks, new ArrayList<>());
+    }
+
+    /**
+     * Moves the tasks which clash with an earlier task, or with any of the kept tasks, into a quarantine file.
+     * The kept tasks, e.g. tasks of partitions already loaded into the task list, are never quarantined.
+     *
+     * @param tasks     The loaded tasks, which are sorted by start date and time, without the clashing tasks.
+     * @param keptTasks The tasks which the loaded tasks are added to.
+     * @return True if any tasks were quarantined.
+     * @throws IOException If the quarantine file cannot be written.
+     */
+    private boolean quarantineClashingTasks(ArrayList<Task> tasks, ArrayList<Task> keptTasks) throws IOException {
+        tasks.sort(new TaskDateComparator());
+        StringBuilder clashMessages = new StringBuilder();
+        ArrayList<Task> clashingTasks = TaskUtil.removeSortedDateTimeClashes(tasks, clashMessages);
+        clashingTasks.addAll(TaskUtil.removeDateTimeClashesWith(tasks, keptTasks, clashMessages));
+        if (clashingTasks.isEmpty()) {
+            return false;
+        }
+        JSONArray quarantinedTasks = new JSONArray();
+        StringBuilder quarantinedTaskList = new StringBuilder();
+        for (Task task : clashingTasks) {
+            quarantinedTasks.put(convertTaskToJson(task));
+            quarantinedTaskList.append("\n\t-> ").append(task.printTask());
+        }
+        Path quarantinePath = getQuarantinePath();
+        writeFileAtomically(quarantinePath, StandardCharsets.UTF_8.encode(
+                new JSONObject().put("tasks", quarantinedTasks).toString(INDENT_FACTOR)));
+        ui.showToUser(CLASHING_SAVED_TASKS_MESSAGE + clashMessages,
+                QUARANTINED_TASKS_MESSAGE_1 + quarantinePath + QUARANTINED_TASKS_MESSAGE_2 + quarantinedTaskList);
+        return true;
+    }
+
+    private Path getQuarantinePath() {
+        String fileName = QUARANTINE_FILE_PREFIX + LocalDateTime.now().format(fileNameTimeFormat);
+        Path quarantinePath = Paths.get(saveFilePath).resolveSibling(fileName + QUARANTINE_FILE_EXTENSION);
+        for (int i = 1; Files.exists(quarantinePath); i++) {
+            quarantinePath = Paths.get(saveFilePath).resolveSibling(fileName + "-" + i + QUARANTINE_FILE_EXTENSION);
+        }
+        return quarantinePath;
+    }
+
+    /**
+     * Returns the tasks saved in the partition of a month.
+     * Tasks clashing with each other are quarantined, and the partition is rewritten without them.
+     * As the month is loaded while a command is running, an invalid or missing partition is reported to the command,
+     * which leaves the month unloaded and in the manifest instead of saving it as a month without tasks.
+     *
+     * @param month The month of the partition to load.
+     * @return ArrayList of the tasks starting in the month.
+     * @throws InvalidInputException If the partition is missing, holds invalid data or cannot be read.
+     */
+    @Override
+    public ArrayList<Task> loadPartition(YearMonth month) throws InvalidInputException {
+        try {
+            ArrayList<Task> tasks = readPartition(month);
+            for (Task task : tasks) {
+                TaskUtil.checkValidDateTime(task, true, false);
+            }
+            if (quarantineClashingTasks(tasks)) {
+                synchronized (this) {
+                    queuePartition(month, tasks);
+                }
+                flush();
+            }
+            return tasks;
+        } catch (IOException e) {
+            throw new InvalidInputException(ERROR_IO_FAILURE_MESSAGE);
+        } catch (InvalidInputException | JSONException e) {
+            throw new InvalidInputException(e.getMessage() + LS + ERROR_INVALID_SAVED_FILE_MESSAGE_2);
+        }
+    }
+
+    /**
+     * Returns the tasks saved in the partition of a month listed in the manifest.
+     *
+     * @param month The month of the partition to read.
+     * @return ArrayList of the tasks starting in the month.
+     * @throws IOException           If an I/O error occurs while reading the partition.
+     * @throws InvalidInputException If the partition is missing or has missing fields for a task.
+     * @throws JSONException         If the partition has an invalid JSON format.
+     */
+    private ArrayList<Task> readPartition(YearMonth month) throws IOException, InvalidInputException, JSONException {
+        Path partitionPath = getPartitionPath(month);
+        if (!Files.exists(partitionPath)) {
+            throw new InvalidInputException(ERROR_MISSING_PARTITION_MESSAGE + partitionPath);
+        }
+        return readSaveFile(partitionPath);
+    }
+
+    /**
+     * Prepares the task list to load the partitions listed in the manifest when they are needed.
+     * Every partition listed must exist, as the tasks of a month would otherwise be lost
+     * once the month is saved again.
+     *
+     * @param taskList The task list to load the partitions into.
+     * @param metadata The manifest read from the save file.
+     * @throws InvalidInputException If the manifest is invalid.
+     */
+    private void loadManifest(TaskList taskList, JSONObject metadata) throws InvalidInputException {
+        TreeMap<YearMonth, JSONObject> savedEntries = StorageParser.parsePartitions(metadata);
+        TreeMap<YearMonth, Integer> unloadedTaskCounts = new TreeMap<>();
+        TreeMap<YearMonth, Integer> unloadedPendingCounts = new TreeMap<>();
+        for (YearMonth month : savedEntries.keySet()) {
+            if (!Files.exists(getPartitionPath(month))) {
+                throw new InvalidInputException(ERROR_MISSING_PARTITION_MESSAGE + getPartitionPath(month));
+            }
+            unloadedTaskCounts.put(month, savedEntries.get(month).getInt("tasks"));
+            unloadedPendingCounts.put(month, savedEntries.get(month).getInt("pending"));
+        }
+        synchronized (this) {
+            partitionEntries.putAll(savedEntries);
+            if (metadata.has("format")) {
+                saveFormat = StorageParser.parseSaveFormat(metadata);
+            }
+        }
+        synchronized (this) {
+            // Kept in case a partition is rewritten before the first save
+            nextIdentifier = taskList.getNextIdentifier();
+        }
+        taskList.setPartitionLoader(this, unloadedTaskCounts, unloadedPendingCounts);
+    }
+
+    /**
+     * Returns the next identifier kept in the save file.
+     * Identifiers were picked at random below the legacy limit before the next identifier was saved,
+     * so save files with tasks but without a next identifier continue from the legacy limit.
+     *
+     * @param metadata      The keys of the save file other than its tasks.
+     * @param hasSavedTasks Whether any task has been saved.
+     * @return The next identifier for a new task.
+     */
+    private long getSavedNextIdentifier(JSONObject metadata, boolean hasSavedTasks) {
+        if (metadata.has("next_identifier")) {
+            return metadata.getLong("next_identifier");
+        }
+        return hasSavedTasks ? LEGACY_IDENTIFIER_LIMIT : 0;
+    }
+
+    /**
+     * Moves tasks still kept in the save file or the journal, e.g. from before partitions were used,
+     * into the partitions of their months.
+     *
+     * @param taskList     The task list holding the tasks.
+     * @param tasksToMove  The tasks read from the save file and the journal.
+     * @throws InvalidInputException If the partition of one of the months cannot be loaded.
+     */
+    /**
+     * Returns the tasks saved in the partitions of the months of some tasks, loading those partitions.
+     * Tasks kept in the save file or the journal are checked for clashes against them before being added,
+     * as the tasks in a partition would otherwise only be checked when their month is loaded.
+     *
+     * @param taskList The task list holding the partitions.
+     * @param tasks    The tasks read from the save file and the journal.
+     * @return ArrayList of the tasks saved in the partitions of the months of the tasks.
+     * @throws InvalidInputException If the partition of one of the months cannot be loaded.
+     */
+    private ArrayList<Task> getPartitionTasksOf(TaskList taskList, ArrayList<Task> tasks) throws InvalidInputException {
+        TreeSet<YearMonth> months = new TreeSet<>();
+        for (Task task : tasks) {
+            months.add(YearMonth.from(task.getDoOnStartDateTime()));
+        }
+        ArrayList<Task> partitionTasks = new ArrayList<>();
+        for (YearMonth month : months) {
+            partitionTasks.addAll(taskList.getFilteredTasksByMonth(month.atDay(1)));
+        }
+        return partitionTasks;
+    }
+
+    private void moveIntoPartitions(TaskList taskList, ArrayList<Task> tasksToMove) throws InvalidInputException {
+        TreeSet<YearMonth> monthsToMove = new TreeSet<>();
+        for (Task task : tasksToMove) {
+            monthsToMove.add(YearMonth.from(task.getDoOnStartDateTime()));
+        }
+        for (YearMonth month : monthsToMove) {
+            ArrayList<Task> monthlyTasks = taskList.getFilteredTasksByMonth(month.atDay(1));
+            synchronized (this) {
+                queuePartition(month, monthlyTasks);
+            }
+        }
+        synchronized (this) {
+            nextIdentifier = taskList.getNextIdentifier();
+        }
+        synchronized (writeLock) {
+            TreeMap<YearMonth, ByteBuffer> partitions;
+            JSONObject manifest;
+            synchronized (this) {
+                partitions = new TreeMap<>(pendingPartitions);
+                manifest = convertManifestToJson();
+                pendingPartitions.clear();
+            }
+            writePartitions(partitions, manifest);
         }
     }
 
     /**
      * Loads the save file into the task list.
+     * Tasks are streamed from the save file one at a time instead of reading the whole file into memory.
+     * If journaling is enabled, changes recorded in the journal are replayed on top of the save file.
+     * Tasks clashing with each other are quarantined instead of stopping the load.
      *
      * @throws IOException           If an I/O error occurs while reading the data file
      * @throws InvalidInputException If the data has missing fields for a task
      * @throws JSONException         If the data file has an invalid JSON format
      */
     public void load(TaskList taskList) throws IOException, InvalidInputException, JSONException, TimeClashException {
-        List<String> dataLines = Files.readAllLines(new File(saveFilePath).toPath());
-        if (dataLines.size() > 0) {
-            String dataString = String.join("\n", dataLines);
-            JSONArray taskArray = new JSONObject(dataString).getJSONArray("tasks");
-
-            for (int i = 0; i < taskArray.length(); i++) {
-                JSONObject taskData = taskArray.getJSONObject(i);
-                taskList.addTask(StorageParser.parseSaveData(taskData), Frequency.SINGLE, true);
+        LinkedHashMap<String, Task> loadedTasks = new LinkedHashMap<>();
+        ArrayList<Task> duplicatedTasks = new ArrayList<>();
+        Path saveFile = Paths.get(saveFilePath);
+        saveFormat = detectSaveFormat(saveFile);
+        long savedJournalSequence;
+        JSONObject metadata;
+        try (TaskDataReader reader = openSaveFile(saveFile, saveFormat)) {
+            while (reader.hasNextTask()) {
+                Task task = reader.nextTask();
+                Task duplicatedTask = loadedTasks.put(getTaskKey(task), task);
+                if (duplicatedTask != null) {
+                    // Kept so that the clash with the task sharing its start time is still reported
+                    duplicatedTasks.add(duplicatedTask);
+                }
             }
+            savedJournalSequence = reader.getJournalSequence();
+            metadata = reader.getMetadata();
+        }
+        journalSequence = savedJournalSequence;
+        nextIdentifier = 0;
+        boolean hasJournal = Files.exists(Paths.get(journalFilePath));
+        if (isJournalEnabled || (isPartitioned && hasJournal)) {
+            replayJournal(loadedTasks, savedJournalSequence);
+        }
+        ArrayList<Task> tasksToAdd = new ArrayList<>(loadedTasks.values());
+        tasksToAdd.addAll(duplicatedTasks);
+        boolean hasSavedTasks = !tasksToAdd.isEmpty() || metadata.has("partitions");
+        taskList.setNextIdentifier(Math.max(nextIdentifier, getSavedNextIdentifier(metadata, hasSavedTasks)));
+        if (isPartitioned) {
+            loadManifest(taskList, metadata);
+            ArrayList<Task> partitionTasks = getPartitionTasksOf(taskList, tasksToAdd);
+            boolean hasQuarantinedTasks = quarantineClashingTasks(tasksToAdd, partitionTasks);
+            taskList.addTasksFromFile(tasksToAdd);
+            taskList.drainChanges();
+            if (!tasksToAdd.isEmpty() || hasJournal || hasQuarantinedTasks) {
+                moveIntoPartitions(taskList, tasksToAdd);
+            }
+            return;
+        }
+        for (YearMonth month : StorageParser.parsePartitions(metadata).keySet()) {
+            // Partitions are no longer used, so every month is moved back into the save file
+            tasksToAdd.addAll(readPartition(month));
+        }
+        quarantineClashingTasks(tasksToAdd);
+        taskList.addTasksFromFile(tasksToAdd);
+        taskList.drainChanges();
+        synchronized (this) {
+            queueSnapshot(taskList);
         }
-        writeSaveData(taskList);
+        flush();
     }
 }
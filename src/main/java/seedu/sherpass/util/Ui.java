@@ -1,8 +1,12 @@
 package seedu.sherpass.util;
 
+import seedu.sherpass.exception.InvalidInputException;
 import seedu.sherpass.task.TaskList;
 import seedu.sherpass.timetable.Timetable;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.time.LocalDate;
 import java.util.Scanner;
 
@@ -19,6 +23,43 @@ import static seedu.sherpass.constant.Message.LOGO;
 public class Ui {
 
     private static final Scanner in = new Scanner(System.in);
+    private final PrintWriter bufferedOut;
+
+    /**
+     * Creates a user interface which prints every message as soon as it is shown.
+     */
+    public Ui() {
+        bufferedOut = null;
+    }
+
+    /**
+     * Creates a user interface which keeps the messages shown in a buffer instead of printing them line by line.
+     * The buffer is printed in one write when {@link #flush()} is called or the user is asked for input,
+     * so a large timetable does not cost one locked write to the terminal per row.
+     *
+     * @param bufferSize Number of characters the buffer holds before it is printed on its own.
+     */
+    public Ui(int bufferSize) {
+        bufferedOut = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out), bufferSize));
+    }
+
+    private void print(String message) {
+        if (bufferedOut == null) {
+            System.out.println(message);
+        } else {
+            bufferedOut.println(message);
+        }
+    }
+
+    /**
+     * Prints all messages in the buffer to the terminal.
+     * Does nothing if the messages are not buffered.
+     */
+    public void flush() {
+        if (bufferedOut != null) {
+            bufferedOut.flush();
+        }
+    }
 
     /**
      * Returns any user input entered by the user through
@@ -28,6 +69,7 @@ public class Ui {
      * @return User input
      */
     public String readCommand() {
+        flush();
         return in.nextLine().trim();
     }
 
@@ -40,6 +82,7 @@ public class Ui {
      *         not continue scanning for inputs when it is waiting.
      */
     public boolean hasInput() {
+        flush();
         return in.hasNext();
     }
 
@@ -47,7 +90,7 @@ public class Ui {
      * Prints a partition line.
      */
     public void showLine() {
-        System.out.println(PARTITION_LINE);
+        print(PARTITION_LINE);
     }
 
     /**
@@ -59,10 +102,21 @@ public class Ui {
      */
     public void showToUser(String... message) {
         for (String s : message) {
-            System.out.println(s);
+            print(s);
         }
     }
 
+    /**
+     * Prints a message to the user together with any messages still in the buffer.
+     * Used by the timers, whose messages are shown while the user is not entering a command.
+     *
+     * @param message Message to show to the user.
+     */
+    public void showToUserImmediately(String... message) {
+        showToUser(message);
+        flush();
+    }
+
     private void showReminderMessage(TaskList taskList, Ui ui) {
         int pendingTaskCount = taskList.getPendingTasksCount();
         if (pendingTaskCount > 0) {
@@ -82,7 +136,11 @@ public class Ui {
         String welcomeMessage = PARTITION_LINE + LS + WELCOME_MESSAGE_ONE
                 + LOGO + LS + PARTITION_LINE + LS + WELCOME_MESSAGE_TWO;
         showToUser(welcomeMessage);
-        Timetable.showScheduleByDay(LocalDate.now(), taskList, ui);
+        try {
+            Timetable.showScheduleByDay(LocalDate.now(), taskList, ui);
+        } catch (InvalidInputException e) {
+            showError(e.getMessage());
+        }
         showReminderMessage(taskList, ui);
         showLine();
     }
@@ -91,7 +149,7 @@ public class Ui {
      * Prints a goodbye message to the user.
      */
     public void showGoodbyeMessage() {
-        System.out.println(GOODBYE_MESSAGE);
+        print(GOODBYE_MESSAGE);
     }
 
 
@@ -111,11 +169,11 @@ public class Ui {
     }
 
     public void showError(String message) {
-        System.out.println(ERROR_PREFIX + message);
+        print(ERROR_PREFIX + message);
     }
 
     public boolean readYesNoCommand(String message) {
-        System.out.println(message);
+        print(message);
         while (true) {
             String input = readCommand();
             showLine();
@@ -0,0 +1,82 @@
+package seedu.sherpass.util;
+
+public class WriteBehindSaver extends Thread {
+    private final Storage storage;
+    private final long quietPeriodNanos;
+    private long lastRequestNanos;
+    private boolean hasPendingSave = false;
+    private boolean isClosed = false;
+
+    /**
+     * Creates a background thread which writes the saves queued in storage.
+     * The thread does not keep the program running once the main thread exits.
+     *
+     * @param storage           Storage holding the queued saves.
+     * @param quietPeriodMillis Time in milliseconds without any save request before the saves are written.
+     */
+    public WriteBehindSaver(Storage storage, long quietPeriodMillis) {
+        super("write-behind-saver");
+        this.storage = storage;
+        this.quietPeriodNanos = quietPeriodMillis * 1_000_000L;
+        setDaemon(true);
+    }
+
+    /**
+     * Notifies the saver that a save has been queued.
+     * The quiet period restarts with every request, so a burst of requests results in a single write.
+     */
+    public synchronized void requestSave() {
+        lastRequestNanos = System.nanoTime();
+        hasPendingSave = true;
+        notifyAll();
+    }
+
+    /**
+     * Stops the saver once the saves still queued have been written, and waits for it to finish.
+     */
+    public void close() {
+        synchronized (this) {
+            isClosed = true;
+            notifyAll();
+        }
+        try {
+            join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until a save has been requested and no further request has been made for the quiet period.
+     * A saver which is closed stops waiting for the quiet period.
+     *
+     * @return Whether a save has been requested before the saver was closed.
+     */
+    private synchronized boolean waitForQuietPeriod() throws InterruptedException {
+        while (!hasPendingSave) {
+            if (isClosed) {
+                return false;
+            }
+            wait();
+        }
+        long remainingNanos = lastRequestNanos + quietPeriodNanos - System.nanoTime();
+        while (remainingNanos > 0 && !isClosed) {
+            wait(remainingNanos / 1_000_000L + 1);
+            remainingNanos = lastRequestNanos + quietPeriodNanos - System.nanoTime();
+        }
+        hasPendingSave = false;
+        return true;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (waitForQuietPeriod()) {
+                storage.flush();
+            }
+        } catch (InterruptedException e) {
+            return;
+        }
+        storage.flush();
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.sherpass.util.parser;
+
+import org.json.JSONObject;
+import seedu.sherpass.enums.Frequency;
+import seedu.sherpass.exception.InvalidInputException;
+import seedu.sherpass.task.RecurrenceRule;
+import seedu.sherpass.task.Task;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static seedu.sherpass.constant.StorageConstant.BINARY_FLAG_DONE;
+import static seedu.sherpass.constant.StorageConstant.BINARY_FLAG_HAS_BY_DATE;
+import static seedu.sherpass.constant.StorageConstant.BINARY_FLAG_HAS_RECURRENCE_RULE;
+import static seedu.sherpass.constant.StorageConstant.BINARY_FORMAT_MAGIC;
+import static seedu.sherpass.constant.StorageConstant.BINARY_FORMAT_VERSION;
+import static seedu.sherpass.constant.StorageConstant.BINARY_FORMAT_VERSION_WITHOUT_NEXT_IDENTIFIER;
+import static seedu.sherpass.constant.StorageConstant.BINARY_FORMAT_VERSION_WITHOUT_RULES;
+import static seedu.sherpass.constant.StorageConstant.READ_BUFFER_SIZE;
+
+public class BinarySaveDataReader implements TaskDataReader {
+    private final DataInputStream input;
+    private final long journalSequence;
+    private final JSONObject metadata = new JSONObject();
+    private final int taskCount;
+    private final String[] stringTable;
+    private final RecurrenceRule[] ruleTable;
+    private final boolean hasRecurrenceRules;
+    private int tasksRead;
+
+    /**
+     * Creates a reader for a save file in the binary format.
+     * The header, the string table and the rule table are read immediately, while tasks are read one at a time.
+     *
+     * @param saveFilePath Location of the save file.
+     * @throws IOException           If the save file cannot be read.
+     * @throws InvalidInputException If the save file is not in a supported binary format.
+     */
+    public BinarySaveDataReader(Path saveFilePath) throws IOException, InvalidInputException {
+        this(Channels.newInputStream(FileChannel.open(saveFilePath, StandardOpenOption.READ)));
+    }
+
+    /**
+     * Creates a reader for the content of a save file in the binary format.
+     * The input is closed when the reader is closed.
+     *
+     * @param saveFileInput Content of the save file, e.g. after being decompressed.
+     * @throws IOException           If the save file cannot be read.
+     * @throws InvalidInputException If the save file is not in a supported binary format.
+     */
+    public BinarySaveDataReader(InputStream saveFileInput) throws IOException, InvalidInputException {
+        input = new DataInputStream(new BufferedInputStream(saveFileInput, READ_BUFFER_SIZE));
+        try {
+            if (input.readInt() != BINARY_FORMAT_MAGIC) {
+                throw new InvalidInputException("Save file is not in the binary format.");
+            }
+            int version = input.readUnsignedShort();
+            if (version != BINARY_FORMAT_VERSION && version != BINARY_FORMAT_VERSION_WITHOUT_NEXT_IDENTIFIER
+                    && version != BINARY_FORMAT_VERSION_WITHOUT_RULES) {
+                throw new InvalidInputException("Unsupported binary save file version: " + version);
+            }
+            // Save files of the first version have no rule table, and their tasks do not recur
+            hasRecurrenceRules = version != BINARY_FORMAT_VERSION_WITHOUT_RULES;
+            journalSequence = input.readLong();
+            if (version == BINARY_FORMAT_VERSION) {
+                metadata.put("next_identifier", input.readLong());
+            }
+            taskCount = input.readInt();
+            stringTable = readStringTable();
+            ruleTable = hasRecurrenceRules ? readRuleTable() : new RecurrenceRule[0];
+        } catch (EOFException e) {
+            input.close();
+            throw new InvalidInputException("Binary save file ended unexpectedly.");
+        } catch (InvalidInputException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    private String[] readStringTable() throws IOException, InvalidInputException {
+        int stringCount = input.readInt();
+        if (stringCount < 0) {
+            throw new InvalidInputException("Invalid string table in binary save file.");
+        }
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            byte[] bytes = new byte[input.readInt()];
+            input.readFully(bytes);
+            strings[i] = StorageParser.internDescription(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return strings;
+    }
+
+    private RecurrenceRule[] readRuleTable() throws IOException, InvalidInputException {
+        int ruleCount = input.readInt();
+        if (ruleCount < 0) {
+            throw new InvalidInputException("Invalid rule table in binary save file.");
+        }
+        RecurrenceRule[] rules = new RecurrenceRule[ruleCount];
+        for (int i = 0; i < ruleCount; i++) {
+            int frequencyIndex = input.readUnsignedByte();
+            int flags = input.readUnsignedByte();
+            LocalDateTime firstStartDateTime = toDateTime(input.readInt());
+            LocalDateTime firstEndDateTime = toDateTime(input.readInt());
+            int firstByMinute = input.readInt();
+            if (frequencyIndex >= Frequency.values().length
+                    || Frequency.values()[frequencyIndex] == Frequency.SINGLE) {
+                throw new InvalidInputException("Invalid recurrence rule in binary save file.");
+            }
+            LocalDateTime firstByDateTime = ((flags & BINARY_FLAG_HAS_BY_DATE) == 0)
+                    ? null : toDateTime(firstByMinute);
+            rules[i] = StorageParser.internRecurrenceRule(new RecurrenceRule(Frequency.values()[frequencyIndex],
+                    firstStartDateTime, firstEndDateTime, firstByDateTime));
+        }
+        return rules;
+    }
+
+    @Override
+    public boolean hasNextTask() {
+        return tasksRead < taskCount;
+    }
+
+    @Override
+    public Task nextTask() throws IOException, InvalidInputException {
+        assert hasNextTask();
+        try {
+            int identifier = input.readInt();
+            int descriptionIndex = input.readInt();
+            int flags = input.readUnsignedByte();
+            LocalDateTime doOnStartDateTime = toDateTime(input.readInt());
+            LocalDateTime doOnEndDateTime = toDateTime(input.readInt());
+            int byMinute = input.readInt();
+            int ruleIndex = hasRecurrenceRules ? input.readInt() : 0;
+            if (descriptionIndex < 0 || descriptionIndex >= stringTable.length) {
+                throw new InvalidInputException("Invalid description in binary save file.");
+            }
+            boolean hasRecurrenceRule = (flags & BINARY_FLAG_HAS_RECURRENCE_RULE) != 0;
+            if (hasRecurrenceRule && (ruleIndex < 0 || ruleIndex >= ruleTable.length)) {
+                throw new InvalidInputException("Invalid recurrence rule in binary save file.");
+            }
+            LocalDateTime byDateTime = ((flags & BINARY_FLAG_HAS_BY_DATE) == 0) ? null : toDateTime(byMinute);
+            Task task = new Task(identifier, stringTable[descriptionIndex], byDateTime,
+                    doOnStartDateTime, doOnEndDateTime);
+            if ((flags & BINARY_FLAG_DONE) != 0) {
+                task.markAsDone();
+            }
+            if (hasRecurrenceRule) {
+                task.setRecurrenceRule(ruleTable[ruleIndex]);
+            }
+            tasksRead++;
+            return task;
+        } catch (EOFException e) {
+            throw new InvalidInputException("Binary save file ended unexpectedly.");
+        }
+    }
+
+    private LocalDateTime toDateTime(int epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60L, 0, ZoneOffset.UTC);
+    }
+
+    @Override
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Returns the next identifier kept in the header, if the save file is of a version which keeps it.
+     *
+     * @return JSONObject containing the next identifier.
+     */
+    @Override
+    public JSONObject getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
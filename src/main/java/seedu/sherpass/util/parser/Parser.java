@@ -3,6 +3,7 @@ package seedu.sherpass.util.parser;
 import seedu.sherpass.command.Command;
 import seedu.sherpass.command.ClearCommand;
 import seedu.sherpass.command.ExitCommand;
+import seedu.sherpass.command.FormatCommand;
 import seedu.sherpass.command.HelpCommand;
 import seedu.sherpass.command.StudyCommand;
 
@@ -20,6 +21,8 @@ import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_CLEAR;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_DELETE;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_EDIT;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_EXIT;
+import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_FORMAT;
+import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_FREE;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_HELP;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_SHOW;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_MARK;
@@ -61,10 +64,14 @@ public class Parser {
             return TaskParser.prepareDelete(argument, ui);
         case COMMAND_WORD_CLEAR:
             return new ClearCommand(argument);
+        case COMMAND_WORD_FORMAT:
+            return new FormatCommand(argument);
+        case COMMAND_WORD_FREE:
+            return TaskParser.prepareFree(argument, ui);
         case COMMAND_WORD_STUDY:
             return new StudyCommand();
         case COMMAND_WORD_SHOW:
-            return TimetableParser.prepareShow(splitInput);
+            return TimetableParser.prepareShow(splitInput, ui);
         case COMMAND_WORD_HELP:
             return prepareHelp(userInput);
         case COMMAND_WORD_EXIT:
@@ -0,0 +1,200 @@
+package seedu.sherpass.util.parser;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import seedu.sherpass.exception.InvalidInputException;
+import seedu.sherpass.task.Task;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+
+import static seedu.sherpass.constant.StorageConstant.READ_BUFFER_SIZE;
+
+public class SaveDataReader implements TaskDataReader {
+    private final Reader reader;
+    private final JSONTokener tokener;
+    private final JSONObject metadata = new JSONObject();
+    private final ArrayDeque<Task> pendingOccurrences = new ArrayDeque<>();
+    private boolean hasNextTask;
+    private boolean hasFoundTasks;
+
+    /**
+     * Creates a reader which streams the tasks from a save file one at a time,
+     * without reading the whole save file into memory.
+     *
+     * @param saveFilePath Location of the save file.
+     * @throws IOException   If the save file cannot be opened.
+     * @throws JSONException If the save file does not start with a valid JSON object.
+     */
+    public SaveDataReader(Path saveFilePath) throws IOException, JSONException {
+        this(Channels.newInputStream(FileChannel.open(saveFilePath, StandardOpenOption.READ)));
+    }
+
+    /**
+     * Creates a reader which streams the tasks from the content of a save file one at a time.
+     * The input is closed when the reader is closed.
+     *
+     * @param input Content of the save file, e.g. after being decompressed.
+     * @throws IOException   If the save file cannot be read.
+     * @throws JSONException If the save file does not start with a valid JSON object.
+     */
+    public SaveDataReader(InputStream input) throws IOException, JSONException {
+        reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+        tokener = new JSONTokener(reader);
+        try {
+            startReading();
+        } catch (JSONException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    private void startReading() throws JSONException {
+        char firstCharacter = tokener.nextClean();
+        if (firstCharacter == 0) {
+            // An empty save file contains no tasks
+            return;
+        }
+        if (firstCharacter != '{') {
+            throw tokener.syntaxError("A JSONObject text must begin with '{'");
+        }
+        seekTaskArray();
+    }
+
+    /**
+     * Moves the reader to the next element of the "tasks" array.
+     * Values of any other keys in the save file are kept as metadata.
+     */
+    private void seekTaskArray() throws JSONException {
+        while (true) {
+            char nextCharacter = tokener.nextClean();
+            if (nextCharacter == '}') {
+                finishReading();
+                return;
+            }
+            if (nextCharacter == 0) {
+                throw tokener.syntaxError("A JSONObject text must end with '}'");
+            }
+            tokener.back();
+            String key = tokener.nextValue().toString();
+            if (tokener.nextClean() != ':') {
+                throw tokener.syntaxError("Expected a ':' after a key");
+            }
+            if (key.equals("tasks") && openTaskArray()) {
+                return;
+            }
+            if (!key.equals("tasks")) {
+                metadata.put(key, tokener.nextValue());
+            }
+            if (!hasMoreKeys()) {
+                finishReading();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Opens the "tasks" array and returns true if it contains any tasks.
+     */
+    private boolean openTaskArray() throws JSONException {
+        hasFoundTasks = true;
+        if (tokener.nextClean() != '[') {
+            throw tokener.syntaxError("A JSONArray text must start with '['");
+        }
+        if (tokener.nextClean() == ']') {
+            return false;
+        }
+        tokener.back();
+        hasNextTask = true;
+        return true;
+    }
+
+    private boolean hasMoreKeys() throws JSONException {
+        switch (tokener.nextClean()) {
+        case ',':
+            return true;
+        case '}':
+            return false;
+        default:
+            throw tokener.syntaxError("Expected a ',' or '}'");
+        }
+    }
+
+    private void finishReading() throws JSONException {
+        hasNextTask = false;
+        if (!hasFoundTasks) {
+            throw new JSONException("JSONObject[\"tasks\"] not found.");
+        }
+    }
+
+    /**
+     * Returns the values of the keys in the save file other than "tasks".
+     * Keys that come after the "tasks" array are only available once all tasks have been read.
+     *
+     * @return JSONObject containing the other keys in the save file and their values.
+     */
+    @Override
+    public JSONObject getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public long getJournalSequence() {
+        return metadata.optLong("journal_sequence", 0);
+    }
+
+    @Override
+    public boolean hasNextTask() {
+        return !pendingOccurrences.isEmpty() || hasNextTask;
+    }
+
+    /**
+     * Returns the next task in the save file.
+     * A recurring task saved as its rule is expanded into its occurrences when it is reached,
+     * which are then returned one at a time, so each of them is still loaded as a task of its own.
+     *
+     * @return Task containing the saved data of the next task.
+     * @throws InvalidInputException If the saved data of the task is missing content.
+     * @throws JSONException         If the save file has an invalid JSON format.
+     */
+    @Override
+    public Task nextTask() throws InvalidInputException, JSONException {
+        if (!pendingOccurrences.isEmpty()) {
+            return pendingOccurrences.poll();
+        }
+        assert hasNextTask;
+        JSONObject taskData = new JSONObject(tokener);
+        switch (tokener.nextClean()) {
+        case ',':
+            break;
+        case ']':
+            hasNextTask = false;
+            if (hasMoreKeys()) {
+                seekTaskArray();
+            }
+            break;
+        default:
+            throw tokener.syntaxError("Expected a ',' or ']'");
+        }
+        if (StorageParser.isRecurringTaskData(taskData)) {
+            pendingOccurrences.addAll(StorageParser.parseRecurringTaskData(taskData));
+            return pendingOccurrences.poll();
+        }
+        return StorageParser.parseSaveData(taskData);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
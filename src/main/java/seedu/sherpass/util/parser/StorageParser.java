@@ -1,16 +1,27 @@
 package seedu.sherpass.util.parser;
 
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
+import seedu.sherpass.enums.ChangeType;
+import seedu.sherpass.enums.Frequency;
+import seedu.sherpass.enums.SaveFormat;
 import seedu.sherpass.exception.InvalidInputException;
+import seedu.sherpass.task.RecurrenceRule;
 import seedu.sherpass.task.Task;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.TreeMap;
 
 import static seedu.sherpass.constant.DateAndTimeFormat.inputWithTimeFormat;
 
 public class StorageParser {
+    private static final WeakInternPool<String> descriptionPool = new WeakInternPool<>();
+    private static final WeakInternPool<RecurrenceRule> rulePool = new WeakInternPool<>();
 
     /**
      * Returns a task object from a JSON object.
@@ -23,7 +34,7 @@ public class StorageParser {
         Task parsedTask;
         try {
             int identifier = taskData.getInt("identifier");
-            String description = taskData.getString("description");
+            String description = internDescription(taskData.getString("description"));
             String byDateString = taskData.getString("by_date");
             String doOnStartDateString = taskData.getString("do_date_start");
             String doOnEndDateString = taskData.getString("do_date_end");
@@ -39,9 +50,163 @@ public class StorageParser {
             if (status.equals("X")) {
                 parsedTask.markAsDone();
             }
+            if (taskData.has("repeat")) {
+                parsedTask.setRecurrenceRule(parseRecurrenceRule(taskData.getJSONObject("repeat")));
+            }
             return parsedTask;
         } catch (JSONException | DateTimeParseException | IllegalArgumentException exception) {
             throw new InvalidInputException(exception.getMessage());
         }
     }
+
+    /**
+     * Returns true if the saved data holds the occurrences of a recurring task instead of a single task.
+     *
+     * @param taskData The data of a task or of a recurring task in JSON.
+     * @return true if the data is of a recurring task.
+     */
+    public static boolean isRecurringTaskData(JSONObject taskData) {
+        return taskData.has("count");
+    }
+
+    /**
+     * Returns the occurrences of a recurring task saved as its rule.
+     * Only the occurrences between the first step and the last step are created, apart from the skipped steps,
+     * which were deleted or edited into separate tasks. The occurrences share the rule and the description.
+     *
+     * @param recurringTaskData The data of a recurring task in JSON.
+     * @return ArrayList of the occurrences of the recurring task, in date order.
+     * @throws InvalidInputException If saved data is missing content or has no occurrences.
+     */
+    public static ArrayList<Task> parseRecurringTaskData(JSONObject recurringTaskData) throws InvalidInputException {
+        try {
+            int identifier = recurringTaskData.getInt("identifier");
+            String description = internDescription(recurringTaskData.getString("description"));
+            RecurrenceRule rule = parseRecurrenceRule(recurringTaskData.getJSONObject("repeat"));
+            int firstStep = recurringTaskData.getInt("first_step");
+            int count = recurringTaskData.getInt("count");
+            HashSet<Integer> skippedSteps = parseSteps(recurringTaskData.getJSONArray("skipped"));
+            HashSet<Integer> doneSteps = parseSteps(recurringTaskData.getJSONArray("done"));
+            if (firstStep < 0 || count <= 0) {
+                throw new InvalidInputException("Recurring task has no occurrences: " + description);
+            }
+            ArrayList<Task> occurrences = new ArrayList<>();
+            for (int step = firstStep; step - firstStep < count; step++) {
+                if (skippedSteps.contains(step)) {
+                    continue;
+                }
+                Task occurrence = rule.createOccurrence(identifier, description, step);
+                if (doneSteps.contains(step)) {
+                    occurrence.markAsDone();
+                }
+                occurrences.add(occurrence);
+            }
+            if (occurrences.isEmpty()) {
+                throw new InvalidInputException("Recurring task has no occurrences: " + description);
+            }
+            return occurrences;
+        } catch (JSONException | DateTimeParseException | IllegalArgumentException exception) {
+            throw new InvalidInputException(exception.getMessage());
+        }
+    }
+
+    private static RecurrenceRule parseRecurrenceRule(JSONObject ruleData) {
+        Frequency frequency = Frequency.valueOf(ruleData.getString("frequency").toUpperCase());
+        if (frequency == Frequency.SINGLE) {
+            throw new IllegalArgumentException("A recurring task cannot have a frequency of single");
+        }
+        String byDateString = ruleData.getString("by_date");
+        LocalDateTime byDate = (byDateString.isBlank()
+                ? null : LocalDateTime.parse(byDateString, inputWithTimeFormat));
+        LocalDateTime doOnStartDateTime = LocalDateTime.parse(ruleData.getString("do_date_start"), inputWithTimeFormat);
+        LocalDateTime doOnEndDateTime = LocalDateTime.parse(ruleData.getString("do_date_end"), inputWithTimeFormat);
+        // Occurrences saved one by one share the rule of their recurring task again once loaded
+        return internRecurrenceRule(new RecurrenceRule(frequency, doOnStartDateTime, doOnEndDateTime, byDate));
+    }
+
+    /**
+     * Returns the description shared by the tasks loaded so far which have the same description.
+     * Occurrences of a recurring task saved one by one, e.g. in the journal or in the binary format,
+     * then share one description instead of each holding a copy.
+     *
+     * @param description Description read from a save file.
+     * @return The shared description.
+     */
+    static String internDescription(String description) {
+        return descriptionPool.intern(description);
+    }
+
+    /**
+     * Returns the recurrence rule shared by the tasks loaded so far which have the same rule.
+     *
+     * @param rule Recurrence rule read from a save file.
+     * @return The shared recurrence rule.
+     */
+    static RecurrenceRule internRecurrenceRule(RecurrenceRule rule) {
+        return rulePool.intern(rule);
+    }
+
+    private static HashSet<Integer> parseSteps(JSONArray stepData) {
+        HashSet<Integer> steps = new HashSet<>();
+        for (int i = 0; i < stepData.length(); i++) {
+            steps.add(stepData.getInt(i));
+        }
+        return steps;
+    }
+
+    /**
+     * Returns the type of change recorded in a journal record.
+     *
+     * @param record A record from the journal in JSON.
+     * @return The type of change made to the task list.
+     * @throws InvalidInputException If the record does not contain a valid type of change.
+     */
+    public static ChangeType parseChangeType(JSONObject record) throws InvalidInputException {
+        try {
+            return ChangeType.valueOf(record.getString("op").toUpperCase());
+        } catch (JSONException | IllegalArgumentException exception) {
+            throw new InvalidInputException(exception.getMessage());
+        }
+    }
+
+    /**
+     * Returns the months listed in the manifest of a partitioned save file, with their entries.
+     *
+     * @param manifest The manifest read from the save file.
+     * @return Map of each month to its entry, or an empty map if the save file is not partitioned.
+     * @throws InvalidInputException If an entry has an invalid month or is missing its task counts.
+     */
+    public static TreeMap<YearMonth, JSONObject> parsePartitions(JSONObject manifest) throws InvalidInputException {
+        TreeMap<YearMonth, JSONObject> partitions = new TreeMap<>();
+        JSONArray entries = manifest.optJSONArray("partitions");
+        if (entries == null) {
+            return partitions;
+        }
+        try {
+            for (int i = 0; i < entries.length(); i++) {
+                JSONObject entry = entries.getJSONObject(i);
+                entry.getInt("tasks");
+                entry.getInt("pending");
+                partitions.put(YearMonth.parse(entry.getString("month")), entry);
+            }
+        } catch (JSONException | DateTimeParseException exception) {
+            throw new InvalidInputException(exception.getMessage());
+        }
+        return partitions;
+    }
+
+    /**
+     * Returns the format of the partitions listed in the manifest of a partitioned save file.
+     *
+     * @param manifest The manifest read from the save file.
+     * @return The save format of the partitions.
+     * @throws InvalidInputException If the manifest does not contain a valid save format.
+     */
+    public static SaveFormat parseSaveFormat(JSONObject manifest) throws InvalidInputException {
+        try {
+            return SaveFormat.valueOf(manifest.getString("format").toUpperCase());
+        } catch (JSONException | IllegalArgumentException exception) {
+            throw new InvalidInputException(exception.getMessage());
+        }
+    }
 }
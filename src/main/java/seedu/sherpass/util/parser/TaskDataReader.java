@@ -0,0 +1,40 @@
+package seedu.sherpass.util.parser;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import seedu.sherpass.exception.InvalidInputException;
+import seedu.sherpass.task.Task;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface TaskDataReader extends Closeable {
+
+    boolean hasNextTask();
+
+    /**
+     * Returns the next task in the save file.
+     *
+     * @return Task containing the saved data of the next task.
+     * @throws IOException           If an I/O error occurs while reading the save file.
+     * @throws InvalidInputException If the saved data of the task is missing content.
+     * @throws JSONException         If the save file has an invalid JSON format.
+     */
+    Task nextTask() throws IOException, InvalidInputException, JSONException;
+
+    /**
+     * Returns the sequence number of the last journal record contained in the save file.
+     * Only available once all tasks have been read.
+     *
+     * @return The sequence number, or 0 if the save file does not contain any journal records.
+     */
+    long getJournalSequence();
+
+    /**
+     * Returns other values stored in the save file alongside the tasks.
+     * Only available once all tasks have been read.
+     *
+     * @return JSONObject containing the other values in the save file.
+     */
+    JSONObject getMetadata();
+}
@@ -4,6 +4,7 @@ import seedu.sherpass.command.Command;
 import seedu.sherpass.command.AddCommand;
 import seedu.sherpass.command.DeleteCommand;
 import seedu.sherpass.command.EditCommand;
+import seedu.sherpass.command.FreeCommand;
 import seedu.sherpass.command.HelpCommand;
 import seedu.sherpass.command.MarkCommand;
 import seedu.sherpass.command.UnmarkCommand;
@@ -22,10 +23,14 @@ import java.time.format.ResolverStyle;
 
 import static seedu.sherpass.constant.CommandParameter.BY_DATE_DELIMITER;
 import static seedu.sherpass.constant.CommandParameter.BY_TIME_DELIMITER;
+import static seedu.sherpass.constant.CommandParameter.COUNT_DELIMITER;
 import static seedu.sherpass.constant.CommandParameter.DO_DATE_DELIMITER;
+import static seedu.sherpass.constant.CommandParameter.DURATION_DELIMITER;
 import static seedu.sherpass.constant.CommandParameter.END_TIME_DELIMITER;
 import static seedu.sherpass.constant.CommandParameter.FREQUENCY_DELIMITER;
+import static seedu.sherpass.constant.CommandParameter.FROM_DATE_DELIMITER;
 import static seedu.sherpass.constant.CommandParameter.START_TIME_DELIMITER;
+import static seedu.sherpass.constant.CommandParameter.TO_DATE_DELIMITER;
 import static seedu.sherpass.constant.DateAndTimeFormat.inputDateOnlyFormat;
 import static seedu.sherpass.constant.DateAndTimeFormat.inputWithTimeFormat;
 import static seedu.sherpass.constant.DateAndTimeFormat.timeOnlyFormat;
@@ -41,16 +46,23 @@ import static seedu.sherpass.constant.Message.EMPTY_STRING;
 import static seedu.sherpass.constant.Message.ERROR_BY_DATE_TIME_MISSING_MESSAGE;
 import static seedu.sherpass.constant.Message.ERROR_EMPTY_ADD_COMMANDS_MESSAGE;
 import static seedu.sherpass.constant.Message.ERROR_EMPTY_DESCRIPTION_MESSAGE;
+import static seedu.sherpass.constant.Message.ERROR_FREE_DATES_MISSING_MESSAGE;
+import static seedu.sherpass.constant.Message.ERROR_FREE_TO_BEFORE_FROM_MESSAGE;
 import static seedu.sherpass.constant.Message.ERROR_INVALID_DATETIME_MESSAGE;
 import static seedu.sherpass.constant.Message.ERROR_INVALID_DELETE_INDEX_MESSAGE;
+import static seedu.sherpass.constant.Message.ERROR_INVALID_FREE_COUNT_MESSAGE;
+import static seedu.sherpass.constant.Message.ERROR_INVALID_FREE_DURATION_MESSAGE;
 import static seedu.sherpass.constant.Message.ERROR_INVALID_FREQUENCY_MESSAGE;
 import static seedu.sherpass.constant.Message.ERROR_INVALID_INDEX_MESSAGE;
 import static seedu.sherpass.constant.Message.ERROR_INVALID_MARKING_INDEX_MESSAGE;
 import static seedu.sherpass.constant.Message.ERROR_NO_VALUE_FOR_PARAMETER_MESSAGE;
 import static seedu.sherpass.constant.Message.WHITESPACE;
+import static seedu.sherpass.constant.TimetableConstant.DEFAULT_FREE_SLOT_COUNT;
+import static seedu.sherpass.constant.TimetableConstant.LAST_MINUTE_OF_DAY;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_ADD;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_DELETE;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_EDIT;
+import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_FREE;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_MARK;
 import static seedu.sherpass.constant.CommandMessage.COMMAND_WORD_UNMARK;
 
@@ -335,4 +347,61 @@ public class TaskParser {
             return new HelpCommand(COMMAND_WORD_DELETE);
         }
     }
+
+    private static long prepareFreeDuration(String durationString) throws InvalidInputException {
+        try {
+            long durationMinutes = Long.parseLong(durationString);
+            if (durationMinutes < 1 || durationMinutes > LAST_MINUTE_OF_DAY) {
+                throw new InvalidInputException(ERROR_INVALID_FREE_DURATION_MESSAGE);
+            }
+            return durationMinutes;
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException(ERROR_INVALID_FREE_DURATION_MESSAGE);
+        }
+    }
+
+    private static int prepareFreeCount(String countString) throws InvalidInputException {
+        if (countString.isBlank()) {
+            return DEFAULT_FREE_SLOT_COUNT;
+        }
+        try {
+            int slotCount = Integer.parseInt(countString);
+            if (slotCount < 1) {
+                throw new InvalidInputException(ERROR_INVALID_FREE_COUNT_MESSAGE);
+            }
+            return slotCount;
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException(ERROR_INVALID_FREE_COUNT_MESSAGE);
+        }
+    }
+
+    /**
+     * Returns a FreeCommand containing parsed user inputs ready for
+     * finding free slots in the schedule.
+     *
+     * @param argument Argument from the user input. Excludes the input command "free".
+     * @param ui       User Interface.
+     * @return FreeCommand with parsed inputs in proper format.
+     */
+    public static Command prepareFree(String argument, Ui ui) {
+        try {
+            String durationString = parseArgument(DURATION_DELIMITER, argument);
+            String fromDateString = parseArgument(FROM_DATE_DELIMITER, argument);
+            String toDateString = parseArgument(TO_DATE_DELIMITER, argument);
+            if (durationString.isBlank() || fromDateString.isBlank() || toDateString.isBlank()) {
+                throw new InvalidInputException(ERROR_FREE_DATES_MISSING_MESSAGE);
+            }
+            LocalDate fromDate = prepareTaskDate(fromDateString);
+            LocalDate toDate = prepareTaskDate(toDateString);
+            if (toDate.isBefore(fromDate)) {
+                throw new InvalidInputException(ERROR_FREE_TO_BEFORE_FROM_MESSAGE);
+            }
+            return new FreeCommand(prepareFreeDuration(durationString), fromDate, toDate,
+                    prepareFreeCount(parseArgument(COUNT_DELIMITER, argument)));
+        } catch (InvalidInputException e) {
+            ui.showError(e.getMessage());
+            ui.showLine();
+            return new HelpCommand(COMMAND_WORD_FREE);
+        }
+    }
 }
@@ -3,6 +3,7 @@ package seedu.sherpass.util.parser;
 import seedu.sherpass.command.Command;
 import seedu.sherpass.command.ShowCommand;
 import seedu.sherpass.exception.InvalidInputException;
+import seedu.sherpass.util.Ui;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
@@ -10,7 +11,12 @@ import java.time.format.ResolverStyle;
 
 import static seedu.sherpass.constant.DateAndTimeFormat.inputWithoutTimeFormat;
 import static seedu.sherpass.constant.Index.INDEX_SHOW_OPTION;
+import static seedu.sherpass.constant.Index.ZERO_INDEX_OFFSET;
 import static seedu.sherpass.constant.Message.ERROR_INVALID_INPUT_MESSAGE;
+import static seedu.sherpass.constant.Message.ERROR_INVALID_SHOW_DAYS_MESSAGE;
+import static seedu.sherpass.constant.TimetableConstant.MAX_SHOW_DAYS;
+import static seedu.sherpass.constant.TimetableConstant.SHOW_DAYS_SUFFIX;
+import static seedu.sherpass.constant.TimetableConstant.SHOW_SERIES_OPTION;
 
 public class TimetableParser {
 
@@ -18,14 +24,21 @@ public class TimetableParser {
      * Parses the timetable command from the main Parser class.
      *
      * @param splitInput The string input given by user in array format.
+     * @param ui The user interface which interacts with the user.
      * @return A function call to decode the specific type of Show Command.
      */
-    public static Command prepareShow(String[] splitInput) {
+    public static Command prepareShow(String[] splitInput, Ui ui) {
         try {
             String selection = splitInput[INDEX_SHOW_OPTION].trim();
             return parseShowCommandOptions(selection.toLowerCase());
-        } catch (ArrayIndexOutOfBoundsException | InvalidInputException e) {
-            System.out.println(ERROR_INVALID_INPUT_MESSAGE);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            ui.showToUser(ERROR_INVALID_INPUT_MESSAGE);
+        } catch (InvalidInputException e) {
+            if (e.getMessage() == null) {
+                ui.showToUser(ERROR_INVALID_INPUT_MESSAGE);
+            } else {
+                ui.showError(e.getMessage());
+            }
         }
         return null;
     }
@@ -41,6 +54,12 @@ public class TimetableParser {
         if (selection.isBlank()) {
             throw new InvalidInputException();
         }
+        if (selection.startsWith(SHOW_SERIES_OPTION)) {
+            return prepareShowSeries(selection.substring(SHOW_SERIES_OPTION.length()).trim());
+        }
+        if (selection.endsWith(SHOW_DAYS_SUFFIX) && Character.isDigit(selection.charAt(0))) {
+            return prepareShowDays(selection.substring(0, selection.length() - SHOW_DAYS_SUFFIX.length()));
+        }
         try {
             LocalDate dayInput = LocalDate.parse(selection,
                     inputWithoutTimeFormat.withResolverStyle(ResolverStyle.STRICT));
@@ -49,4 +68,38 @@ public class TimetableParser {
             return new ShowCommand(null, selection);
         }
     }
+
+    /**
+     * Returns a Show Command for the schedule of a number of days, starting from today.
+     *
+     * @param dayCount The number of days to show.
+     * @return The Show Command for the days.
+     * @throws InvalidInputException If the number of days is not a number from 1 to the largest number allowed.
+     */
+    private static Command prepareShowDays(String dayCount) throws InvalidInputException {
+        try {
+            int parsedDayCount = Integer.parseInt(dayCount);
+            if (parsedDayCount < 1 || parsedDayCount > MAX_SHOW_DAYS) {
+                throw new InvalidInputException(ERROR_INVALID_SHOW_DAYS_MESSAGE);
+            }
+            return new ShowCommand(LocalDate.now(), parsedDayCount);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException(ERROR_INVALID_SHOW_DAYS_MESSAGE);
+        }
+    }
+
+    /**
+     * Returns a Show Command for all occurrences of a task.
+     *
+     * @param taskNumber The task number of any occurrence of the task, as seen in the timetable.
+     * @return The Show Command for the occurrences of the task.
+     * @throws InvalidInputException If the task number is not a number.
+     */
+    private static Command prepareShowSeries(String taskNumber) throws InvalidInputException {
+        try {
+            return new ShowCommand(Integer.parseInt(taskNumber) - ZERO_INDEX_OFFSET);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException();
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package seedu.sherpass.util.parser;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+class WeakInternPool<T> {
+    private final WeakHashMap<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the instance in the pool equal to the given value, adding the value if there is none.
+     * Values read from save files are passed through the pool, so equal values share one instance.
+     * The pool only holds weak references, so an instance is dropped once no task refers to it.
+     *
+     * @param value The value to be interned.
+     * @return The pooled instance equal to the value.
+     */
+    synchronized T intern(T value) {
+        WeakReference<T> pooledReference = pool.get(value);
+        T pooledValue = pooledReference == null ? null : pooledReference.get();
+        if (pooledValue != null) {
+            return pooledValue;
+        }
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+}
@@ -1,12 +1,21 @@
 package seedu.sherpass.task;
 
 import org.junit.jupiter.api.Test;
+import seedu.sherpass.enums.ChangeType;
+import seedu.sherpass.enums.Frequency;
 import seedu.sherpass.exception.InvalidInputException;
 import seedu.sherpass.exception.TimeClashException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.sherpass.constant.DateAndTimeFormat.inputWithTimeFormat;
@@ -94,4 +103,495 @@ public class TaskListTest {
         assertThrows(InvalidInputException.class,
             () -> TaskUtil.checkDateTimeClash(dummyList, testTask, false, false));
     }
+
+    @Test
+    void addTasksFromFile_unsortedTasks_expectTasksSortedAndIndexed()
+            throws TimeClashException, InvalidInputException {
+        ArrayList<Task> loadedTasks = new ArrayList<>();
+        loadedTasks.add(new Task(1, "later", null,
+                LocalDateTime.parse("1/4/2022 10:00", inputWithTimeFormat),
+                LocalDateTime.parse("1/4/2022 12:00", inputWithTimeFormat)));
+        loadedTasks.add(new Task(2, "earlier", null,
+                LocalDateTime.parse("31/3/2022 12:00", inputWithTimeFormat),
+                LocalDateTime.parse("31/3/2022 13:00", inputWithTimeFormat)));
+        loadedTasks.add(new Task(3, "earliest", null,
+                LocalDateTime.parse("31/3/2022 10:00", inputWithTimeFormat),
+                LocalDateTime.parse("31/3/2022 12:00", inputWithTimeFormat)));
+        TaskList taskList = new TaskList();
+        taskList.addTasksFromFile(loadedTasks);
+        assertEquals("earliest", taskList.getTask(0).getDescription());
+        assertEquals("later", taskList.getTask(2).getDescription());
+        assertEquals(3, taskList.getTask(2).getIndex());
+    }
+
+    @Test
+    void addTasksFromFile_clashWithEarlierTaskOnSameDay_TimeClashExceptionThrown() {
+        ArrayList<Task> loadedTasks = new ArrayList<>();
+        loadedTasks.add(new Task(1, "long", null,
+                LocalDateTime.parse("31/3/2022 08:00", inputWithTimeFormat),
+                LocalDateTime.parse("31/3/2022 18:00", inputWithTimeFormat)));
+        loadedTasks.add(new Task(2, "short", null,
+                LocalDateTime.parse("31/3/2022 09:00", inputWithTimeFormat),
+                LocalDateTime.parse("31/3/2022 10:00", inputWithTimeFormat)));
+        loadedTasks.add(new Task(3, "clash", null,
+                LocalDateTime.parse("31/3/2022 11:00", inputWithTimeFormat),
+                LocalDateTime.parse("31/3/2022 12:00", inputWithTimeFormat)));
+        TaskList taskList = new TaskList();
+        assertThrows(TimeClashException.class, () -> taskList.addTasksFromFile(loadedTasks));
+    }
+
+    @Test
+    void addTask_endEqualsStartOfOtherTasks_expectNoClash() throws TimeClashException, InvalidInputException {
+        LocalDateTime noon = LocalDateTime.now().plusDays(1).withHour(12).truncatedTo(ChronoUnit.HOURS);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task(1, "middle", null, noon, noon.plusHours(1)), Frequency.SINGLE, false);
+        taskList.addTask(new Task(2, "before", null, noon.minusHours(1), noon), Frequency.SINGLE, false);
+        taskList.addTask(new Task(3, "after", null, noon.plusHours(1), noon.plusHours(2)), Frequency.SINGLE, false);
+        assertEquals(3, taskList.getSize());
+        assertThrows(TimeClashException.class, () -> taskList.addTask(new Task(4, "clash", null,
+                noon.plusMinutes(59), noon.plusHours(3)), Frequency.SINGLE, false));
+    }
+
+    @Test
+    void editSingleTask_clashWithOtherTask_expectTaskUnchangedAndStillChecked()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime noon = LocalDateTime.now().plusDays(1).withHour(12).truncatedTo(ChronoUnit.HOURS);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task(1, "first", null, noon, noon.plusHours(1)), Frequency.SINGLE, false);
+        taskList.addTask(new Task(2, "second", null, noon.plusHours(2), noon.plusHours(3)),
+                Frequency.SINGLE, false);
+        assertThrows(TimeClashException.class, () -> taskList.editSingleTask(0, "first",
+                noon.plusHours(2), noon.plusHours(4), null, false));
+        assertEquals(noon, taskList.getTask(0).getDoOnStartDateTime());
+        assertThrows(TimeClashException.class, () -> taskList.addTask(new Task(3, "clash", null,
+                noon.plusMinutes(30), noon.plusMinutes(90)), Frequency.SINGLE, false));
+    }
+
+    @Test
+    void getFilteredTasksByMonth_tasksEditedAndRemoved_expectIndexUpdatedInDateOrder()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.now().plusMonths(1).withDayOfMonth(1).withHour(10)
+                .truncatedTo(ChronoUnit.HOURS);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task(1, "third", null, firstDay.plusDays(2), firstDay.plusDays(2).plusHours(1)),
+                Frequency.SINGLE, false);
+        taskList.addTask(new Task(2, "first", null, firstDay, firstDay.plusHours(1)), Frequency.SINGLE, false);
+        taskList.addTask(new Task(3, "removed", null, firstDay.plusDays(1), firstDay.plusDays(1).plusHours(1)),
+                Frequency.SINGLE, false);
+        taskList.addTask(new Task(4, "next month", null, firstDay.plusMonths(1), firstDay.plusMonths(1).plusHours(1)),
+                Frequency.SINGLE, false);
+        taskList.removeTask(1, false);
+        taskList.editSingleTask(0, "second", firstDay.plusHours(2), firstDay.plusHours(3), null, false);
+
+        ArrayList<Task> monthlyTasks = taskList.getFilteredTasksByMonth(firstDay.toLocalDate());
+        assertEquals(2, monthlyTasks.size());
+        assertEquals("second", monthlyTasks.get(0).getDescription());
+        assertEquals("third", monthlyTasks.get(1).getDescription());
+        assertTrue(taskList.getFilteredTasksByDate(firstDay.plusDays(1).toLocalDate()).isEmpty());
+        assertEquals(1, taskList.getFilteredTasksByDate(firstDay.toLocalDate()).size());
+    }
+
+    @Test
+    void addTask_earlierAndLaterTasks_expectTasksInsertedInDateOrderAndRenumbered()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.now().plusDays(1).withHour(10).truncatedTo(ChronoUnit.HOURS);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task(1, "latest", null, firstDay.plusMonths(2), firstDay.plusMonths(2).plusHours(1)),
+                Frequency.SINGLE, false);
+        taskList.addTask(new Task(2, "daily", null, firstDay, firstDay.plusHours(1)), Frequency.DAILY, false);
+        taskList.addTask(new Task(3, "earliest", null, firstDay.minusHours(2), firstDay.minusHours(1)),
+                Frequency.SINGLE, false);
+        for (int i = 0; i < taskList.getSize(); i++) {
+            assertEquals(i + 1, taskList.getTask(i).getIndex());
+        }
+        assertEquals("earliest", taskList.getTask(0).getDescription());
+        assertEquals("latest", taskList.getTask(taskList.getSize() - 1).getDescription());
+
+        taskList.removeTask(0, false);
+        taskList.removeTask(2, true);
+        assertEquals(3, taskList.getSize());
+        assertEquals("latest", taskList.getTask(2).getDescription());
+        assertEquals(3, taskList.getTask(2).getIndex());
+    }
+
+    @Test
+    void addTask_occurrencesBetweenExistingTasks_expectOccurrencesMergedInDateOrder()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.now().plusDays(1).withHour(10).truncatedTo(ChronoUnit.HOURS);
+        TaskList taskList = new TaskList();
+        for (int week = 0; week < 3; week++) {
+            LocalDateTime dayInWeek = firstDay.plusWeeks(week).plusDays(1);
+            taskList.addTask(new Task(week + 1, "single", null, dayInWeek, dayInWeek.plusHours(1)),
+                    Frequency.SINGLE, false);
+        }
+        taskList.addTask(new Task(4, "weekly", null, firstDay, firstDay.plusHours(1)), Frequency.WEEKLY, false);
+
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i % 2 == 0 ? "weekly" : "single", taskList.getTask(i).getDescription());
+        }
+        for (int i = 0; i < taskList.getSize(); i++) {
+            assertEquals(i + 1, taskList.getTask(i).getIndex());
+            if (i > 0) {
+                assertFalse(taskList.getTask(i).getDoOnStartDateTime()
+                        .isBefore(taskList.getTask(i - 1).getDoOnStartDateTime()));
+            }
+        }
+        assertEquals(taskList.getSize() - 3, taskList.getSeries(0).size());
+    }
+
+    @Test
+    void editRepeatedTasks_laterOccurrences_expectSeriesSplitFromEditedOccurrence()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.now().plusDays(1).withHour(10).truncatedTo(ChronoUnit.HOURS);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task(1, "weekly", null, firstDay, firstDay.plusHours(1)), Frequency.WEEKLY, false);
+        taskList.addTask(new Task(2, "other", null, firstDay.plusDays(1), firstDay.plusDays(1).plusHours(1)),
+                Frequency.SINGLE, false);
+        int seriesSize = taskList.getSeries(0).size();
+        assertEquals(1, taskList.getSeries(1).size());
+        assertEquals(seriesSize - 2, taskList.getAffectedTasks(3).size());
+
+        taskList.editRepeatedTasks(3, "moved", firstDay.plusWeeks(2).plusHours(2),
+                firstDay.plusWeeks(2).plusHours(3), null, false);
+        assertEquals(2, taskList.getSeries(0).size());
+        ArrayList<Task> movedSeries = taskList.getSeries(taskList.getSize() - 1);
+        assertEquals(seriesSize - 2, movedSeries.size());
+        assertEquals("moved", movedSeries.get(0).getDescription());
+        assertTrue(movedSeries.get(0).getDoOnStartDateTime().isBefore(movedSeries.get(1).getDoOnStartDateTime()));
+    }
+
+    @Test
+    void generateIdentifier_identifiersInUse_expectUnusedIdentifiers()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.now().plusDays(1).withHour(10).truncatedTo(ChronoUnit.HOURS);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task(70000, "task", null, firstDay, firstDay.plusHours(1)), Frequency.SINGLE, false);
+        assertEquals(70001, taskList.generateIdentifier());
+        assertEquals(70002, taskList.generateIdentifier());
+
+        taskList.addTask(new Task(Integer.MAX_VALUE, "last", null, firstDay.plusDays(1),
+                firstDay.plusDays(1).plusHours(1)), Frequency.SINGLE, false);
+        taskList.addTask(new Task(0, "first", null, firstDay.plusDays(2), firstDay.plusDays(2).plusHours(1)),
+                Frequency.SINGLE, false);
+        assertEquals(1, taskList.generateIdentifier());
+    }
+
+    @Test
+    void archiveMonthsBefore_pastMonths_expectNumberingKeptAndTasksRestoredWhenNeeded() throws InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.parse("5/1/2026 10:00", inputWithTimeFormat);
+        RecurrenceRule rule = new RecurrenceRule(Frequency.WEEKLY, firstDay, firstDay.plusHours(1), null);
+        ArrayList<Task> savedTasks = new ArrayList<>();
+        for (int step = 0; step < 3; step++) {
+            savedTasks.add(rule.createOccurrence(1, "weekly", step));
+        }
+        savedTasks.get(1).markAsDone();
+        savedTasks.add(new Task(2, "later", firstDay.plusMonths(1).plusHours(2), firstDay.plusMonths(1),
+                firstDay.plusMonths(1).plusHours(1)));
+        TaskList taskList = new TaskList(savedTasks);
+
+        taskList.archiveMonthsBefore(YearMonth.of(2026, 2));
+        assertEquals(3, taskList.getPendingTasksCount());
+        ArrayList<Task> laterTasks = taskList.getFilteredTasksByMonth(LocalDate.of(2026, 2, 1));
+        assertEquals(1, laterTasks.size());
+        assertEquals(4, laterTasks.get(0).getIndex());
+
+        assertEquals(4, taskList.getSize());
+        Task restoredTask = taskList.getTask(1);
+        assertEquals("weekly", restoredTask.getDescription());
+        assertEquals(firstDay.plusWeeks(1), restoredTask.getDoOnStartDateTime());
+        assertTrue(restoredTask.isDone());
+        assertEquals(rule, restoredTask.getRecurrenceRule());
+        assertEquals(2, restoredTask.getIndex());
+        assertEquals(firstDay.plusMonths(1).plusHours(2), taskList.getTask(3).getByDateTime());
+    }
+
+    @Test
+    void archiveMonthsBefore_taskOfLaterMonthUsed_expectArchivedMonthsKeptUntilNeeded() throws InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.parse("5/1/2026 10:00", inputWithTimeFormat);
+        RecurrenceRule rule = new RecurrenceRule(Frequency.WEEKLY, firstDay, firstDay.plusHours(1), null);
+        ArrayList<Task> savedTasks = new ArrayList<>();
+        for (int step = 0; step < 3; step++) {
+            savedTasks.add(rule.createOccurrence(1, "weekly", step));
+        }
+        savedTasks.add(new Task(2, "later", null, firstDay.plusMonths(1), firstDay.plusMonths(1).plusHours(1)));
+        TaskList taskList = new TaskList(savedTasks);
+        ArrayList<Task> archivedTasks = taskList.archiveMonthsBefore(YearMonth.of(2026, 2));
+        assertEquals(3, archivedTasks.size());
+
+        // Commands on a single task only load the month of the task
+        assertEquals(4, taskList.getSize());
+        assertEquals("later", taskList.getTask(3).getDescription());
+        taskList.markTask(3);
+        assertTrue(taskList.getTask(3).isDone());
+        assertEquals(3, taskList.getArchivedTasks().size());
+        assertEquals(1, taskList.getLoadedTasks().size());
+
+        // A month loaded back is archived again
+        assertEquals("weekly", taskList.getTask(1).getDescription());
+        assertEquals(0, taskList.getArchivedTasks().size());
+        assertEquals(3, taskList.archiveMonthsBefore(YearMonth.of(2026, 2)).size());
+        assertEquals(3, taskList.getArchivedTasks().size());
+        assertEquals(4, taskList.getTask(3).getIndex());
+    }
+
+    @Test
+    void editRepeatedTasks_descriptionOnly_expectOccurrencesEditedInPlace()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.now().plusDays(1).withHour(10).truncatedTo(ChronoUnit.HOURS);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task(1, "weekly", null, firstDay, firstDay.plusHours(1)), Frequency.WEEKLY, false);
+        int seriesSize = taskList.getSeries(0).size();
+        taskList.markTask(2);
+        Task occurrenceToEdit = taskList.getTask(1);
+
+        Task editedTask = taskList.editRepeatedTasks(1, "renamed", occurrenceToEdit.getDoOnStartDateTime(),
+                occurrenceToEdit.getDoOnEndDateTime(), null, false);
+        assertSame(occurrenceToEdit, editedTask);
+        assertEquals(1, taskList.getSeries(0).size());
+        ArrayList<Task> renamedSeries = taskList.getSeries(1);
+        assertEquals(seriesSize - 1, renamedSeries.size());
+        for (Task task : renamedSeries) {
+            assertSame(renamedSeries.get(0).getDescription(), task.getDescription());
+            assertSame(renamedSeries.get(0).getRecurrenceRule(), task.getRecurrenceRule());
+        }
+        assertEquals("renamed", editedTask.getDescription());
+        assertTrue(taskList.getTask(2).isDone());
+        assertEquals(2, taskList.getTask(1).getIndex());
+    }
+
+    @Test
+    void editRepeatedTasks_descriptionOfWholeSeries_expectSharedSeriesRenamedOnce()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.now().plusDays(1).withHour(10).truncatedTo(ChronoUnit.HOURS);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task(1, "weekly", null, firstDay, firstDay.plusHours(1)), Frequency.WEEKLY, false);
+        ArrayList<Task> series = taskList.getSeries(0);
+        TaskSeries sharedSeries = series.get(0).getSeries();
+        taskList.drainChanges();
+        Task occurrenceToEdit = taskList.getTask(0);
+
+        Task editedTask = taskList.editRepeatedTasks(0, "renamed", occurrenceToEdit.getDoOnStartDateTime(),
+                occurrenceToEdit.getDoOnEndDateTime(), null, false);
+        assertSame(occurrenceToEdit, editedTask);
+        assertNotEquals(1, editedTask.getIdentifier());
+        ArrayList<Task> renamedSeries = taskList.getSeries(0);
+        assertEquals(series.size(), renamedSeries.size());
+        for (Task task : renamedSeries) {
+            assertSame(sharedSeries, task.getSeries());
+        }
+        assertEquals("renamed", taskList.getTask(series.size() - 1).getDescription());
+        ArrayList<TaskChange> changes = taskList.drainChanges();
+        assertEquals(1, changes.size());
+        assertEquals(ChangeType.RENAME, changes.get(0).getType());
+    }
+
+    @Test
+    void editRepeatedTasks_descriptionOnlyOfPastOccurrences_expectInvalidInputExceptionThrown()
+            throws InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.now().minusDays(14).withHour(10).truncatedTo(ChronoUnit.HOURS);
+        RecurrenceRule rule = new RecurrenceRule(Frequency.WEEKLY, firstDay, firstDay.plusHours(1), null);
+        ArrayList<Task> savedTasks = new ArrayList<>();
+        for (int step = 0; step < 2; step++) {
+            savedTasks.add(rule.createOccurrence(1, "weekly", step));
+        }
+        TaskList taskList = new TaskList(savedTasks);
+        Task occurrenceToEdit = taskList.getTask(0);
+
+        assertThrows(InvalidInputException.class, () -> taskList.editRepeatedTasks(0, "renamed",
+                occurrenceToEdit.getDoOnStartDateTime(), occurrenceToEdit.getDoOnEndDateTime(), null, false));
+        assertEquals("weekly", occurrenceToEdit.getDescription());
+        assertEquals(2, taskList.getSeries(0).size());
+    }
+
+    @Test
+    void getTasks_archivedMonths_expectArchivedTasksReadWithoutLoadingMonths() throws InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.parse("5/1/2026 10:00", inputWithTimeFormat);
+        RecurrenceRule rule = new RecurrenceRule(Frequency.WEEKLY, firstDay, firstDay.plusHours(1), null);
+        ArrayList<Task> savedTasks = new ArrayList<>();
+        for (int step = 0; step < 3; step++) {
+            savedTasks.add(rule.createOccurrence(1, "weekly", step));
+        }
+        savedTasks.get(1).markAsDone();
+        savedTasks.add(new Task(2, "later", null, firstDay.plusMonths(1), firstDay.plusMonths(1).plusHours(1)));
+        savedTasks.add(rule.createOccurrence(1, "weekly", 5));
+        TaskList taskList = new TaskList(savedTasks);
+        assertTrue(taskList.hasTasksBefore(YearMonth.of(2026, 2)));
+        taskList.archiveMonthsBefore(YearMonth.of(2026, 2));
+        assertFalse(taskList.hasTasksBefore(YearMonth.of(2026, 2)));
+
+        ArrayList<Task> allTasks = taskList.getTasks();
+        assertEquals(5, allTasks.size());
+        for (int i = 0; i < allTasks.size(); i++) {
+            assertEquals(i + 1, allTasks.get(i).getIndex());
+        }
+        assertEquals(4, taskList.getPendingTasks().size());
+        ArrayList<Task> series = taskList.getSeries(4);
+        assertEquals(4, series.size());
+        assertEquals(1, series.get(0).getIndex());
+        assertTrue(series.get(1).isDone());
+        assertEquals(5, series.get(3).getIndex());
+        assertEquals(4, taskList.getSeries(0).size());
+        assertEquals(1, taskList.getSeries(3).size());
+
+        // The archived months stay archived
+        assertEquals(3, taskList.getArchivedTasks().size());
+        assertEquals(2, taskList.getLoadedTasks().size());
+    }
+
+    @Test
+    void editRepeatedTasks_pastOccurrencesArchived_expectArchivedMonthsNotLoaded()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.now().minusWeeks(10).withHour(10).truncatedTo(ChronoUnit.HOURS);
+        RecurrenceRule rule = new RecurrenceRule(Frequency.WEEKLY, firstDay, firstDay.plusHours(1), null);
+        ArrayList<Task> savedTasks = new ArrayList<>();
+        for (int step = 0; step < 20; step++) {
+            savedTasks.add(rule.createOccurrence(1, "weekly", step));
+        }
+        TaskList taskList = new TaskList(savedTasks);
+        int archivedCount = taskList.archiveMonthsBefore(YearMonth.now()).size();
+        assertTrue(archivedCount > 0);
+        Task occurrenceToEdit = null;
+        for (Task task : taskList.getLoadedTasks()) {
+            if (occurrenceToEdit == null && task.getDoOnStartDateTime().isAfter(LocalDateTime.now())) {
+                occurrenceToEdit = task;
+            }
+        }
+        int editIndex = occurrenceToEdit.getIndex() - 1;
+
+        taskList.editRepeatedTasks(editIndex, "renamed", occurrenceToEdit.getDoOnStartDateTime(),
+                occurrenceToEdit.getDoOnEndDateTime(), null, false);
+        Task movedTask = taskList.editRepeatedTasks(editIndex, "moved",
+                occurrenceToEdit.getDoOnStartDateTime().plusHours(1),
+                occurrenceToEdit.getDoOnEndDateTime().plusHours(1), null, false);
+        assertEquals(archivedCount, taskList.getArchivedTasks().size());
+        assertEquals("moved", movedTask.getDescription());
+        assertEquals(editIndex + 1, movedTask.getIndex());
+        assertEquals(20 - editIndex, taskList.getSeries(editIndex).size());
+        assertEquals("weekly", taskList.getTask(editIndex - 1).getDescription());
+    }
+
+    @Test
+    void getSnapshot_taskListChangedAfterwards_expectSnapshotUnchanged()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.now().plusDays(1).withHour(10).truncatedTo(ChronoUnit.HOURS);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task(1, "first", null, firstDay, firstDay.plusHours(1)), Frequency.SINGLE, false);
+        TaskListSnapshot firstSnapshot = taskList.getSnapshot();
+
+        taskList.addTask(new Task(2, "second", null, firstDay.plusHours(2), firstDay.plusHours(3)),
+                Frequency.SINGLE, false);
+        taskList.removeTask(0, false);
+        ArrayList<Task> firstSnapshotTasks = firstSnapshot.getFilteredTasksByDate(firstDay.toLocalDate());
+        assertEquals(1, firstSnapshotTasks.size());
+        assertEquals("first", firstSnapshotTasks.get(0).getDescription());
+
+        TaskListSnapshot latestSnapshot = taskList.getSnapshot();
+        assertTrue(latestSnapshot.getVersion() > firstSnapshot.getVersion());
+        ArrayList<Task> latestTasks = latestSnapshot.getFilteredTasksByDate(firstDay.toLocalDate());
+        assertEquals(1, latestTasks.size());
+        assertEquals("second", latestTasks.get(0).getDescription());
+    }
+
+    @Test
+    void getSnapshot_taskMarkedAndRenumberedAfterwards_expectSnapshotUnchanged()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.now().plusDays(1).withHour(10).truncatedTo(ChronoUnit.HOURS);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task(1, "later", null, firstDay.plusMonths(1), firstDay.plusMonths(1).plusHours(1)),
+                Frequency.SINGLE, false);
+        TaskListSnapshot firstSnapshot = taskList.getSnapshot();
+
+        taskList.addTask(new Task(2, "earlier", null, firstDay, firstDay.plusHours(1)), Frequency.SINGLE, false);
+        taskList.markTask(1);
+        ArrayList<Task> firstSnapshotTasks = firstSnapshot.getFilteredTasksByDate(
+                firstDay.plusMonths(1).toLocalDate());
+        assertEquals(1, firstSnapshotTasks.size());
+        assertEquals(1, firstSnapshotTasks.get(0).getIndex());
+        assertFalse(firstSnapshotTasks.get(0).isDone());
+
+        ArrayList<Task> latestTasks = taskList.getSnapshot().getFilteredTasksByDateRange(firstDay.toLocalDate(),
+                firstDay.plusMonths(1).plusDays(1).toLocalDate());
+        assertEquals(2, latestTasks.size());
+        assertEquals("earlier", latestTasks.get(0).getDescription());
+        assertEquals(1, latestTasks.get(0).getIndex());
+        assertEquals(2, latestTasks.get(1).getIndex());
+        assertTrue(latestTasks.get(1).isDone());
+    }
+
+    @Test
+    void addTask_recurringTaskClashingTwice_expectEveryClashReportedAndNothingAdded()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime firstDay = LocalDateTime.now().plusDays(1).withHour(10).truncatedTo(ChronoUnit.HOURS);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task(1, "second week", null, firstDay.plusWeeks(1).plusMinutes(30),
+                firstDay.plusWeeks(1).plusHours(2)), Frequency.SINGLE, false);
+        taskList.addTask(new Task(2, "third week", null, firstDay.plusWeeks(2).minusMinutes(30),
+                firstDay.plusWeeks(2).plusMinutes(30)), Frequency.SINGLE, false);
+        taskList.addTask(new Task(3, "back to back", null, firstDay.plusHours(1), firstDay.plusHours(2)),
+                Frequency.SINGLE, false);
+
+        TimeClashException exception = assertThrows(TimeClashException.class, () -> taskList.addTask(
+                new Task(4, "weekly", null, firstDay, firstDay.plusHours(1)), Frequency.WEEKLY, false));
+        assertTrue(exception.getMessage().contains("second week"));
+        assertTrue(exception.getMessage().contains("third week"));
+        assertFalse(exception.getMessage().contains("back to back"));
+        assertEquals(3, taskList.getSize());
+    }
+
+    @Test
+    void findFreeSlots_gapsBetweenTasks_expectEarliestLongEnoughGapOnEachDay()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime firstDay = LocalDate.now().plusDays(1).atStartOfDay();
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task(1, "sleep", null, firstDay, firstDay.plusHours(9)), Frequency.SINGLE, false);
+        taskList.addTask(new Task(2, "lecture", null, firstDay.plusHours(10), firstDay.plusHours(12)),
+                Frequency.SINGLE, false);
+        taskList.addTask(new Task(3, "exam", null, firstDay.plusDays(1), firstDay.plusDays(1).plusMinutes(1439)),
+                Frequency.SINGLE, false);
+
+        ArrayList<LocalDateTime> freeSlots = taskList.findFreeSlots(firstDay, firstDay.toLocalDate().plusDays(2),
+                90, 5);
+        assertEquals(2, freeSlots.size());
+        assertEquals(firstDay.plusHours(12), freeSlots.get(0));
+        assertEquals(firstDay.plusDays(2), freeSlots.get(1));
+        assertEquals(1, taskList.findFreeSlots(firstDay, firstDay.toLocalDate().plusDays(2), 90, 1).size());
+        assertEquals(firstDay.plusHours(9), taskList.findFreeSlots(firstDay, firstDay.toLocalDate(), 60, 1).get(0));
+    }
+
+    @Test
+    void findFreeSlots_freeDaysBetweenBusyDaysOfLongRange_expectOneSlotAtStartOfEachFreeDay()
+            throws TimeClashException, InvalidInputException {
+        LocalDateTime firstDay = LocalDate.now().plusDays(1).atStartOfDay();
+        LocalDateTime busyDay = firstDay.plusMonths(2);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task(1, "exam", null, busyDay, busyDay.plusMinutes(1439)), Frequency.SINGLE, false);
+        taskList.addTask(new Task(2, "lecture", null, busyDay.plusDays(1), busyDay.plusDays(1).plusHours(2)),
+                Frequency.SINGLE, false);
+
+        ArrayList<LocalDateTime> freeSlots = taskList.findFreeSlots(busyDay.minusDays(1),
+                firstDay.toLocalDate().plusYears(100), 90, 3);
+        assertEquals(3, freeSlots.size());
+        assertEquals(busyDay.minusDays(1), freeSlots.get(0));
+        assertEquals(busyDay.plusDays(1).plusHours(2), freeSlots.get(1));
+        assertEquals(busyDay.plusDays(2), freeSlots.get(2));
+        assertEquals(busyDay.plusDays(2).plusHours(2),
+                taskList.findFreeSlots(busyDay.plusDays(2).plusHours(2), busyDay.toLocalDate().plusDays(2), 90, 5)
+                        .get(0));
+        assertTrue(taskList.findFreeSlots(busyDay, busyDay.toLocalDate(), 1, 5).isEmpty());
+    }
+
+    @Test
+    void editTask_movedToNextDay_expectTimeKeysFollowNewDates() {
+        LocalDateTime noon = LocalDateTime.parse("31/3/2022 12:00", inputWithTimeFormat);
+        Task task = new Task(1, "moved", noon.plusHours(2), noon, noon.plusHours(1));
+        Task nextDayTask = new Task(2, "next day", null, noon.plusDays(1), noon.plusDays(1).plusHours(1));
+        assertEquals(-1, new TaskDateComparator().compare(task, nextDayTask));
+
+        long oneDayInSeconds = ChronoUnit.DAYS.getDuration().getSeconds();
+        task.editTask(1, "", oneDayInSeconds, oneDayInSeconds, 0);
+        assertEquals(nextDayTask.getDoOnEpochDay(), task.getDoOnEpochDay());
+        assertEquals(nextDayTask.getDoOnStartMinute(), task.getDoOnStartMinute());
+        assertEquals(task.getDoOnStartMinute() + 60, task.getDoOnEndMinute());
+        assertEquals(0, new TaskDateComparator().compare(task, nextDayTask));
+    }
 }
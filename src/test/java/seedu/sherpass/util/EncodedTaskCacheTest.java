@@ -0,0 +1,34 @@
+package seedu.sherpass.util;
+
+import org.junit.jupiter.api.Test;
+import seedu.sherpass.task.Task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EncodedTaskCacheTest {
+
+    @Test
+    void getEncodedTask_taskModifiedOnce_expectEncodedTwice() {
+        ArrayList<Task> encodedTasks = new ArrayList<>();
+        EncodedTaskCache cache = new EncodedTaskCache(task -> {
+            encodedTasks.add(task);
+            return task.getStatusIcon();
+        });
+        LocalDateTime startDateTime = LocalDateTime.of(2026, 10, 20, 10, 0);
+        Task task = new Task(1, "task_one", null, startDateTime, startDateTime.plusHours(1));
+
+        assertEquals(" ", cache.getEncodedTask(task));
+        assertEquals(" ", cache.getEncodedTask(task));
+        task.markAsDone();
+        assertEquals("X", cache.getEncodedTask(task));
+        assertEquals("X", cache.getEncodedTask(task));
+        assertEquals(2, encodedTasks.size());
+
+        cache.remove(task);
+        cache.getEncodedTask(task);
+        assertEquals(3, encodedTasks.size());
+    }
+}
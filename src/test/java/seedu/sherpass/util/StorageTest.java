@@ -1,7 +1,9 @@
 package seedu.sherpass.util;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import seedu.sherpass.enums.Frequency;
+import seedu.sherpass.enums.SaveFormat;
 import seedu.sherpass.exception.InvalidInputException;
 import seedu.sherpass.exception.TimeClashException;
 import seedu.sherpass.task.TaskList;
@@ -9,14 +11,28 @@ import seedu.sherpass.task.Task;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StorageTest {
     private static final DateTimeFormatter parseWithTimeFormat = DateTimeFormatter.ofPattern("d/M/yyyy HH:mm");
 
+    @TempDir
+    Path saveDirectory;
+
     @Test
     public void writeSaveData_oneTask_expectFileCreated() {
         File testFile = new File("data/test.json");
@@ -37,4 +53,448 @@ class StorageTest {
         }
         assertTrue(testFile.exists());
     }
+
+    @Test
+    public void load_journaledChanges_expectChangesReplayed()
+            throws IOException, InvalidInputException, TimeClashException {
+        String saveFilePath = saveDirectory.resolve("testJournal.json").toString();
+        Storage storage = new Storage(saveFilePath, true);
+        LocalDateTime startDateTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Task(1, "task_one", null, startDateTime, startDateTime.plusHours(1)),
+                Frequency.SINGLE, false);
+        tasks.addTask(new Task(2, "task_two", null, startDateTime.plusHours(2), startDateTime.plusHours(3)),
+                Frequency.SINGLE, false);
+        storage.writeSaveData(tasks);
+        tasks.markTask(1);
+        storage.writeSaveData(tasks);
+        tasks.removeTask(0, false);
+        storage.writeSaveData(tasks);
+        assertTrue(new File(saveFilePath + ".journal").exists());
+
+        TaskList loadedTasks = new TaskList();
+        new Storage(saveFilePath, true).load(loadedTasks);
+        assertEquals(1, loadedTasks.getSize());
+        assertEquals("task_two", loadedTasks.getTask(0).getDescription());
+        assertTrue(loadedTasks.getTask(0).isDone());
+    }
+
+    @Test
+    public void load_journaledRename_expectAllOccurrencesRenamed()
+            throws IOException, InvalidInputException, TimeClashException {
+        String saveFilePath = saveDirectory.resolve("testRename.json").toString();
+        Storage storage = new Storage(saveFilePath, true);
+        LocalDateTime startDateTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Task(1, "weekly", null, startDateTime, startDateTime.plusHours(1)),
+                Frequency.WEEKLY, false);
+        storage.writeSaveData(tasks);
+        tasks.editRepeatedTasks(0, "renamed", startDateTime, startDateTime.plusHours(1), null, false);
+        storage.writeSaveData(tasks);
+        ArrayList<String> journal = new ArrayList<>(Files.readAllLines(Paths.get(saveFilePath + ".journal")));
+        assertTrue(journal.get(journal.size() - 1).contains("\"op\":\"rename\""));
+
+        TaskList loadedTasks = new TaskList();
+        new Storage(saveFilePath, true).load(loadedTasks);
+        assertEquals(tasks.getSize(), loadedTasks.getSize());
+        for (int i = 0; i < loadedTasks.getSize(); i++) {
+            assertEquals("renamed", loadedTasks.getTask(i).getDescription());
+            assertEquals(tasks.getTask(0).getIdentifier(), loadedTasks.getTask(i).getIdentifier());
+            assertSame(loadedTasks.getTask(0).getSeries(), loadedTasks.getTask(i).getSeries());
+        }
+    }
+
+    @Test
+    public void load_newestTaskRemoved_expectIdentifierNotGivenOutAgain()
+            throws IOException, InvalidInputException, TimeClashException {
+        String saveFilePath = saveDirectory.resolve("testIdentifier.json").toString();
+        Storage storage = new Storage(saveFilePath, true);
+        TaskList tasks = new TaskList();
+        storage.load(tasks);
+        LocalDateTime startDateTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        tasks.addTask(new Task(tasks.generateIdentifier(), "task_one", null, startDateTime,
+                startDateTime.plusHours(1)), Frequency.SINGLE, false);
+        storage.writeSaveData(tasks);
+        int removedIdentifier = tasks.generateIdentifier();
+        tasks.addTask(new Task(removedIdentifier, "task_two", null, startDateTime.plusHours(2),
+                startDateTime.plusHours(3)), Frequency.SINGLE, false);
+        tasks.removeTask(1, false);
+        storage.writeSaveData(tasks);
+
+        // Kept in the journal
+        TaskList journaledTasks = new TaskList();
+        Storage journaledStorage = new Storage(saveFilePath, true);
+        journaledStorage.load(journaledTasks);
+        assertTrue(journaledTasks.generateIdentifier() > removedIdentifier);
+
+        // Kept in the binary save file
+        journaledStorage.convertSaveFile(journaledTasks, SaveFormat.BINARY);
+        TaskList binaryTasks = new TaskList();
+        Storage binaryStorage = new Storage(saveFilePath, true);
+        binaryStorage.load(binaryTasks);
+        assertTrue(binaryTasks.generateIdentifier() > removedIdentifier + 1);
+
+        // Kept in the JSON save file
+        binaryStorage.convertSaveFile(binaryTasks, SaveFormat.JSON);
+        TaskList jsonTasks = new TaskList();
+        new Storage(saveFilePath).load(jsonTasks);
+        assertTrue(jsonTasks.generateIdentifier() > removedIdentifier + 2);
+    }
+
+    @Test
+    public void load_staleAndIncompleteJournalRecords_expectRecordsSkipped()
+            throws IOException, InvalidInputException, TimeClashException {
+        String saveFilePath = saveDirectory.resolve("testAtomic.json").toString();
+        Storage storage = new Storage(saveFilePath, true);
+        LocalDateTime startDateTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Task(1, "task_one", null, startDateTime, startDateTime.plusHours(1)),
+                Frequency.SINGLE, false);
+        storage.writeSaveData(tasks);
+        tasks.removeTask(0, false);
+        storage.writeSaveData(tasks);
+        Path journalPath = Paths.get(saveFilePath + ".journal");
+        String journal = Files.readString(journalPath);
+
+        TaskList reloadedTasks = new TaskList();
+        Storage reloadedStorage = new Storage(saveFilePath, true);
+        reloadedStorage.load(reloadedTasks);
+        reloadedTasks.addTask(new Task(1, "task_one", null, startDateTime, startDateTime.plusHours(1)),
+                Frequency.SINGLE, false);
+        reloadedStorage.writeSaveData(reloadedTasks);
+        new Storage(saveFilePath, true).load(new TaskList());
+        assertFalse(Files.exists(journalPath));
+        assertFalse(Files.exists(Paths.get(saveFilePath + ".tmp")));
+
+        // A journal left behind after its records were folded into the save file, ending in a torn record
+        Files.writeString(journalPath, journal + "{\"op\": \"put\", \"ta");
+        TaskList loadedTasks = new TaskList();
+        new Storage(saveFilePath, true).load(loadedTasks);
+        assertEquals(1, loadedTasks.getSize());
+        assertEquals("task_one", loadedTasks.getTask(0).getDescription());
+    }
+
+    @Test
+    public void convertSaveFile_binaryFormat_expectTasksLoadedInSameFormat()
+            throws IOException, InvalidInputException, TimeClashException {
+        String saveFilePath = saveDirectory.resolve("testBinary.json").toString();
+        Storage storage = new Storage(saveFilePath, true);
+        LocalDateTime startDateTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Task(1, "task_one", startDateTime.plusDays(2), startDateTime, startDateTime.plusHours(1)),
+                Frequency.SINGLE, false);
+        tasks.addTask(new Task(2, "task_two", null, startDateTime.plusHours(2), startDateTime.plusHours(3)),
+                Frequency.SINGLE, false);
+        tasks.markTask(0);
+        storage.convertSaveFile(tasks, SaveFormat.BINARY);
+        tasks.removeTask(1, false);
+        storage.writeSaveData(tasks);
+
+        TaskList loadedTasks = new TaskList();
+        Storage loadedStorage = new Storage(saveFilePath, true);
+        loadedStorage.load(loadedTasks);
+        assertEquals(SaveFormat.BINARY, loadedStorage.getSaveFormat());
+        assertEquals(1, loadedTasks.getSize());
+        Task loadedTask = loadedTasks.getTask(0);
+        assertEquals("task_one", loadedTask.getDescription());
+        assertTrue(loadedTask.isDone());
+        assertEquals(startDateTime, loadedTask.getDoOnStartDateTime());
+        assertEquals(startDateTime.plusHours(1), loadedTask.getDoOnEndDateTime());
+        assertEquals(startDateTime.plusDays(2), loadedTask.getByDateTime());
+
+        loadedStorage.convertSaveFile(loadedTasks, SaveFormat.JSON);
+        TaskList reloadedTasks = new TaskList();
+        Storage reloadedStorage = new Storage(saveFilePath, true);
+        reloadedStorage.load(reloadedTasks);
+        assertEquals(SaveFormat.JSON, reloadedStorage.getSaveFormat());
+        assertEquals(1, reloadedTasks.getSize());
+    }
+
+    @Test
+    public void convertSaveFile_binaryFormatRecurringTask_expectRecurrenceRuleKept()
+            throws IOException, InvalidInputException, TimeClashException {
+        String saveFilePath = saveDirectory.resolve("testBinaryRecurring.json").toString();
+        Storage storage = new Storage(saveFilePath, true);
+        storage.load(new TaskList());
+        LocalDateTime startDateTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Task(1, "weekly", null, startDateTime, startDateTime.plusHours(1)),
+                Frequency.WEEKLY, false);
+        storage.convertSaveFile(tasks, SaveFormat.BINARY);
+
+        TaskList loadedTasks = new TaskList();
+        Storage loadedStorage = new Storage(saveFilePath, true);
+        loadedStorage.load(loadedTasks);
+        assertEquals(SaveFormat.BINARY, loadedStorage.getSaveFormat());
+        assertEquals(tasks.getSize(), loadedTasks.getSize());
+        assertEquals(tasks.getTask(0).getRecurrenceRule(), loadedTasks.getTask(0).getRecurrenceRule());
+        for (int i = 1; i < loadedTasks.getSize(); i++) {
+            assertSame(loadedTasks.getTask(0).getRecurrenceRule(), loadedTasks.getTask(i).getRecurrenceRule());
+        }
+
+        // The occurrences still belong to their recurring task once saved in JSON again
+        loadedStorage.convertSaveFile(loadedTasks, SaveFormat.JSON);
+        assertTrue(Files.readString(Paths.get(saveFilePath)).contains("\"first_step\""));
+    }
+
+    @Test
+    public void writeSaveData_writeBehindEnabled_expectSavedOnlyAfterFlush()
+            throws IOException, InvalidInputException, TimeClashException {
+        String saveFilePath = saveDirectory.resolve("testWriteBehind.json").toString();
+        Storage storage = new Storage(saveFilePath, true);
+        storage.enableWriteBehind(60_000);
+        LocalDateTime startDateTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 30; i++) {
+            tasks.addTask(new Task(i + 1, "task_" + i, null, startDateTime.plusHours(i),
+                    startDateTime.plusHours(i).plusMinutes(30)), Frequency.SINGLE, false);
+            storage.writeSaveData(tasks);
+        }
+        assertFalse(Files.exists(Paths.get(saveFilePath + ".journal")));
+
+        storage.close();
+        TaskList loadedTasks = new TaskList();
+        new Storage(saveFilePath, true).load(loadedTasks);
+        assertEquals(30, loadedTasks.getSize());
+    }
+
+    @Test
+    public void load_partitionedByMonth_expectMonthsLoadedWhenNeeded()
+            throws IOException, InvalidInputException, TimeClashException {
+        String saveFilePath = saveDirectory.resolve("testPartitions.json").toString();
+        Storage storage = new Storage(saveFilePath);
+        storage.enablePartitions();
+        storage.load(new TaskList());
+        LocalDateTime firstStart = LocalDateTime.now().plusMonths(1).withDayOfMonth(1)
+                .withHour(10).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime secondStart = firstStart.plusMonths(2);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Task(1, "task_one", null, firstStart, firstStart.plusHours(1)),
+                Frequency.SINGLE, false);
+        tasks.addTask(new Task(2, "task_two", null, secondStart, secondStart.plusHours(1)),
+                Frequency.SINGLE, false);
+        storage.writeSaveData(tasks);
+        Path firstPartition = saveDirectory.resolve("testPartitions-" + YearMonth.from(firstStart) + ".json");
+        Path secondPartition = saveDirectory.resolve("testPartitions-" + YearMonth.from(secondStart) + ".json");
+        assertTrue(Files.exists(firstPartition));
+        assertTrue(Files.exists(secondPartition));
+
+        // Another save file in the same folder keeps its partitions apart
+        Storage otherStorage = new Storage(saveDirectory.resolve("other.json").toString());
+        otherStorage.enablePartitions();
+        otherStorage.load(new TaskList());
+        TaskList otherTasks = new TaskList();
+        otherTasks.addTask(new Task(1, "other_task", null, firstStart.plusHours(2), firstStart.plusHours(3)),
+                Frequency.SINGLE, false);
+        otherStorage.writeSaveData(otherTasks);
+        assertTrue(Files.exists(saveDirectory.resolve("other-" + YearMonth.from(firstStart) + ".json")));
+
+        Storage laterMonthStorage = new Storage(saveFilePath);
+        laterMonthStorage.enablePartitions();
+        TaskList laterMonthTasks = new TaskList();
+        laterMonthStorage.load(laterMonthTasks);
+        // Numbered after the task of the earlier month, although that month has not been loaded
+        assertEquals(2, laterMonthTasks.getFilteredTasksByMonth(secondStart.toLocalDate()).get(0).getIndex());
+        // Identifiers continue from the saved next identifier, although the earlier month has not been loaded
+        assertEquals(3, laterMonthTasks.generateIdentifier());
+
+        Storage loadedStorage = new Storage(saveFilePath);
+        loadedStorage.enablePartitions();
+        TaskList loadedTasks = new TaskList();
+        loadedStorage.load(loadedTasks);
+        assertEquals(2, loadedTasks.getPendingTasksCount());
+        ArrayList<Task> firstMonthTasks = loadedTasks.getFilteredTasksByMonth(firstStart.toLocalDate());
+        assertEquals(1, firstMonthTasks.size());
+        assertEquals("task_one", firstMonthTasks.get(0).getDescription());
+
+        // A missing partition is reported instead of being loaded as a month without tasks
+        Files.delete(secondPartition);
+        Storage missingMonthStorage = new Storage(saveFilePath);
+        missingMonthStorage.enablePartitions();
+        assertThrows(InvalidInputException.class, () -> missingMonthStorage.load(new TaskList()));
+        assertTrue(Files.readString(Paths.get(saveFilePath)).contains(YearMonth.from(secondStart).toString()));
+    }
+
+    @Test
+    public void loadPartition_invalidPartitionDuringCommand_expectErrorAndMonthStillLoadable()
+            throws IOException, InvalidInputException, TimeClashException {
+        String saveFilePath = saveDirectory.resolve("testInvalidPartition.json").toString();
+        Storage storage = new Storage(saveFilePath);
+        storage.enablePartitions();
+        storage.load(new TaskList());
+        LocalDateTime firstStart = LocalDateTime.now().plusMonths(1).withDayOfMonth(1)
+                .withHour(10).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime secondStart = firstStart.plusMonths(1);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Task(1, "task_one", null, firstStart, firstStart.plusHours(1)),
+                Frequency.SINGLE, false);
+        tasks.addTask(new Task(2, "task_two", null, secondStart, secondStart.plusHours(1)),
+                Frequency.SINGLE, false);
+        storage.writeSaveData(tasks);
+
+        Storage loadedStorage = new Storage(saveFilePath);
+        loadedStorage.enablePartitions();
+        TaskList loadedTasks = new TaskList();
+        loadedStorage.load(loadedTasks);
+        Path secondPartition = saveDirectory.resolve("testInvalidPartition-" + YearMonth.from(secondStart) + ".json");
+        String savedPartition = Files.readString(secondPartition);
+        Files.writeString(secondPartition, "{\"tasks\": [");
+        assertThrows(InvalidInputException.class,
+                () -> loadedTasks.getFilteredTasksByMonth(secondStart.toLocalDate()));
+        assertEquals(1, loadedTasks.getFilteredTasksByMonth(firstStart.toLocalDate()).size());
+
+        // The month is left unloaded, so it can be loaded once its partition is fixed
+        Files.writeString(secondPartition, savedPartition);
+        assertEquals("task_two",
+                loadedTasks.getFilteredTasksByMonth(secondStart.toLocalDate()).get(0).getDescription());
+        assertEquals(2, loadedTasks.getSize());
+    }
+
+    @Test
+    public void load_savedTaskClashingWithPartition_expectSavedTaskQuarantined()
+            throws IOException, InvalidInputException, TimeClashException {
+        String saveFilePath = saveDirectory.resolve("testLegacyClash.json").toString();
+        Storage storage = new Storage(saveFilePath);
+        storage.enablePartitions();
+        storage.load(new TaskList());
+        LocalDateTime start = LocalDateTime.now().plusMonths(1).withDayOfMonth(1)
+                .withHour(10).truncatedTo(ChronoUnit.HOURS);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Task(1, "partition_task", null, start, start.plusHours(2)),
+                Frequency.SINGLE, false);
+        storage.writeSaveData(tasks);
+
+        // Tasks left in the save file, e.g. by editing it, are added to the month already in a partition
+        String taskFormat = "{\"identifier\": %d, \"status\": \" \", \"by_date\": \" \", "
+                + "\"do_date_start\": \"%s\", \"do_date_end\": \"%s\", \"description\": \"%s\"}";
+        String manifest = Files.readString(Paths.get(saveFilePath));
+        String manifestWithTasks = manifest.replace("\"tasks\": []", "\"tasks\": ["
+                + String.format(taskFormat, 2, start.plusHours(1).format(parseWithTimeFormat),
+                        start.plusHours(3).format(parseWithTimeFormat), "clashing_task") + ", "
+                + String.format(taskFormat, 3, start.plusHours(3).format(parseWithTimeFormat),
+                        start.plusHours(4).format(parseWithTimeFormat), "later_task") + "]");
+        assertFalse(manifest.equals(manifestWithTasks));
+        Files.writeString(Paths.get(saveFilePath), manifestWithTasks);
+
+        Storage loadedStorage = new Storage(saveFilePath);
+        loadedStorage.enablePartitions();
+        TaskList loadedTasks = new TaskList();
+        loadedStorage.load(loadedTasks);
+        ArrayList<Task> monthlyTasks = loadedTasks.getFilteredTasksByMonth(start.toLocalDate());
+        assertEquals(2, monthlyTasks.size());
+        assertEquals("partition_task", monthlyTasks.get(0).getDescription());
+        assertEquals("later_task", monthlyTasks.get(1).getDescription());
+        File[] quarantineFiles = saveDirectory.toFile().listFiles((directory, name) -> name.startsWith("quarantine-"));
+        assertEquals(1, quarantineFiles.length);
+        assertTrue(Files.readString(quarantineFiles[0].toPath()).contains("clashing_task"));
+    }
+
+    @Test
+    public void writeSaveData_archivedMonths_expectArchivedTasksSavedWithoutBeingLoaded()
+            throws IOException, InvalidInputException, TimeClashException {
+        String saveFilePath = saveDirectory.resolve("testArchive.json").toString();
+        Storage storage = new Storage(saveFilePath);
+        storage.load(new TaskList());
+        LocalDateTime firstStart = LocalDateTime.now().plusMonths(1).withDayOfMonth(1)
+                .withHour(10).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime secondStart = firstStart.plusMonths(1);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Task(1, "task_one", null, firstStart, firstStart.plusHours(1)), Frequency.SINGLE, false);
+        tasks.addTask(new Task(2, "task_two", null, secondStart, secondStart.plusHours(1)), Frequency.SINGLE, false);
+        storage.forgetTasks(tasks.archiveMonthsBefore(YearMonth.from(secondStart)));
+
+        tasks.markTask(1);
+        storage.writeSaveData(tasks);
+        assertEquals(1, tasks.getArchivedTasks().size());
+        TaskList loadedTasks = new TaskList();
+        new Storage(saveFilePath).load(loadedTasks);
+        assertEquals(2, loadedTasks.getSize());
+        assertEquals("task_one", loadedTasks.getTask(0).getDescription());
+        assertTrue(loadedTasks.getTask(1).isDone());
+    }
+
+    @Test
+    public void writeSaveData_compressedSaveFile_expectTasksLoadedFromAnyFileName()
+            throws IOException, InvalidInputException, TimeClashException {
+        Path saveFilePath = saveDirectory.resolve("testGzip.json.gz");
+        Path copyFilePath = saveDirectory.resolve("testGzipCopy.json");
+        Storage storage = new Storage(saveFilePath.toString());
+        LocalDateTime startDateTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Task(1, "task_one", null, startDateTime, startDateTime.plusHours(1)),
+                Frequency.SINGLE, false);
+        storage.writeSaveData(tasks);
+        byte[] savedBytes = Files.readAllBytes(saveFilePath);
+        assertEquals((byte) 0x1f, savedBytes[0]);
+        assertEquals((byte) 0x8b, savedBytes[1]);
+
+        // Compressed content is recognised from its first bytes, whatever the name of the save file
+        Files.copy(saveFilePath, copyFilePath, StandardCopyOption.REPLACE_EXISTING);
+        TaskList loadedTasks = new TaskList();
+        new Storage(copyFilePath.toString()).load(loadedTasks);
+        assertEquals(1, loadedTasks.getSize());
+        assertEquals("task_one", loadedTasks.getTask(0).getDescription());
+        assertEquals('{', Files.readAllBytes(copyFilePath)[0]);
+    }
+
+    @Test
+    public void writeSaveData_recurringTask_expectSavedAsRuleAndOccurrencesRestored()
+            throws IOException, InvalidInputException, TimeClashException {
+        String saveFilePath = saveDirectory.resolve("testRecurring.json").toString();
+        Storage storage = new Storage(saveFilePath);
+        LocalDateTime startDateTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Task(0, "weekly", null, startDateTime, startDateTime.plusHours(1)),
+                Frequency.WEEKLY, false);
+        int occurrenceCount = tasks.getSize();
+        tasks.removeTask(1, false);
+        tasks.markTask(2);
+        storage.writeSaveData(tasks);
+        String savedContent = Files.readString(Paths.get(saveFilePath));
+        assertEquals(1, savedContent.split("\"description\"", -1).length - 1);
+
+        TaskList loadedTasks = new TaskList();
+        new Storage(saveFilePath).load(loadedTasks);
+        assertEquals(occurrenceCount - 1, loadedTasks.getSize());
+        for (int i = 0; i < loadedTasks.getSize(); i++) {
+            assertEquals(tasks.getTask(i).getDoOnStartDateTime(), loadedTasks.getTask(i).getDoOnStartDateTime());
+            assertEquals(tasks.getTask(i).isDone(), loadedTasks.getTask(i).isDone());
+            assertEquals(tasks.getTask(i).getRecurrenceRule(), loadedTasks.getTask(i).getRecurrenceRule());
+        }
+        assertTrue(loadedTasks.getTask(2).isDone());
+    }
+
+    @Test
+    public void load_clashingTasks_expectClashingTasksQuarantinedAndRestLoaded()
+            throws IOException, InvalidInputException, TimeClashException {
+        String saveFilePath = saveDirectory.resolve("testQuarantine.json").toString();
+        String taskFormat = "{\"identifier\": %d, \"status\": \" \", \"by_date\": \" \", "
+                + "\"do_date_start\": \"31/3/2022 %s\", \"do_date_end\": \"31/3/2022 %s\", "
+                + "\"description\": \"%s\"}";
+        Files.writeString(Paths.get(saveFilePath), "{\"tasks\": ["
+                + String.format(taskFormat, 1, "10:00", "12:00", "kept") + ", "
+                + String.format(taskFormat, 2, "11:00", "13:00", "quarantined_first") + ", "
+                + String.format(taskFormat, 3, "11:30", "12:30", "quarantined_second") + ", "
+                + String.format(taskFormat, 4, "13:00", "14:00", "after") + "]}");
+
+        TaskList loadedTasks = new TaskList();
+        new Storage(saveFilePath).load(loadedTasks);
+        assertEquals(2, loadedTasks.getSize());
+        assertEquals("kept", loadedTasks.getTask(0).getDescription());
+        assertEquals("after", loadedTasks.getTask(1).getDescription());
+
+        TaskList reloadedTasks = new TaskList();
+        new Storage(saveFilePath).load(reloadedTasks);
+        assertEquals(2, reloadedTasks.getSize());
+        File[] quarantineFiles = saveDirectory.toFile().listFiles((directory, name) -> name.startsWith("quarantine-"));
+        boolean hasQuarantinedTasks = false;
+        for (File quarantineFile : quarantineFiles) {
+            String content = Files.readString(quarantineFile.toPath());
+            if (content.contains("quarantined_first") && content.contains("quarantined_second")) {
+                hasQuarantinedTasks = true;
+                assertFalse(content.contains("kept"));
+            }
+        }
+        assertTrue(hasQuarantinedTasks);
+    }
 }
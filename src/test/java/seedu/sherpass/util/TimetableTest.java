@@ -1,6 +1,7 @@
 package seedu.sherpass.util;
 
 import org.junit.jupiter.api.Test;
+import seedu.sherpass.exception.InvalidInputException;
 import seedu.sherpass.task.Task;
 import seedu.sherpass.task.TaskList;
 import seedu.sherpass.timetable.Timetable;
@@ -24,7 +25,7 @@ public class TimetableTest {
 
     //@@author jltha
     @Test
-    void prepareTimetable_TodayDate_expectEmptyTimetable() {
+    void prepareTimetable_TodayDate_expectEmptyTimetable() throws InvalidInputException {
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent));
         ArrayList<Task> testArrayList = new ArrayList<>();
@@ -52,7 +53,7 @@ public class TimetableTest {
     }
 
     @Test
-    void showScheduleByDay_CurrentDate_expectTodayTimetable() {
+    void showScheduleByDay_CurrentDate_expectTodayTimetable() throws InvalidInputException {
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent));
         ArrayList<Task> dummyList = new ArrayList<>();
@@ -85,12 +86,12 @@ public class TimetableTest {
     }
 
     @Test
-    void showScheduleOfTheWeek_EmptySchedule_expectEmptyTimetableForTheWeek() {
+    void showScheduleOfTheWeek_EmptySchedule_expectEmptyTimetableForTheWeek() throws InvalidInputException {
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent));
         Ui ui = new Ui();
         TaskList taskList = new TaskList(new ArrayList<>());
-        LocalDate currentDate = TimetableLogic.resetDateToMonday(LocalDate.now(), ui);
+        LocalDate currentDate = TimetableLogic.resetDateToMonday(LocalDate.now());
         assert (currentDate != null);
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < 7; i++) {
@@ -113,7 +114,7 @@ public class TimetableTest {
     }
 
     @Test
-    void showTodaySchedule_fourNonRepeatingInputsNoTimeClashNoByDate_expectSuccess() {
+    void showTodaySchedule_fourNonRepeatingInputsNoTimeClashNoByDate_expectSuccess() throws InvalidInputException {
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent));
         System.setOut(new PrintStream(outContent));
@@ -158,4 +159,59 @@ public class TimetableTest {
 
         assertEquals(expectedOutput, outContent.toString());
     }
+
+    @Test
+    void prepareCondensedTimetable_longDescription_expectColumnsWidenedToFit() throws InvalidInputException {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Task(1, "read a somewhat lengthy chapter", null,
+                LocalDateTime.parse("20/11/2030 09:00", inputWithTimeFormat),
+                LocalDateTime.parse("20/11/2030 10:00", inputWithTimeFormat)));
+        tasks.add(new Task(2, "gym", LocalDateTime.parse("21/11/2030 18:00", inputWithTimeFormat),
+                LocalDateTime.parse("20/11/2030 11:00", inputWithTimeFormat),
+                LocalDateTime.parse("20/11/2030 12:00", inputWithTimeFormat)));
+        tasks.get(1).markAsDone();
+        TaskList taskList = new TaskList(tasks);
+        String expectedOutput = "--------------------------------------------------------------------"
+                + "--------------------------------------------------------------" + System.lineSeparator()
+                + "|  Task Number  |  Mark Status  |  Task Description                    "
+                + "|  To do/attend on               |  To complete by        |" + System.lineSeparator()
+                + "|      1        |               |  read a somewhat lengthy chapter     "
+                + "|  Wed, 20/11/2030 09:00 - 10:00 |                        |" + System.lineSeparator()
+                + "|      2        |      X        |  gym                                 "
+                + "|  Wed, 20/11/2030 11:00 - 12:00 |  Thu, 21/11/2030 18:00 |" + System.lineSeparator()
+                + "--------------------------------------------------------------------"
+                + "--------------------------------------------------------------" + System.lineSeparator();
+        Timetable.prepareCondensedTimetable(taskList.getFilteredTasksByDateRange(
+                LocalDate.of(2030, 11, 1), LocalDate.of(2030, 12, 1)), new Ui());
+        assertEquals(expectedOutput, outContent.toString());
+    }
+
+    @Test
+    void showScheduleOfDays_tasksOnSomeDays_expectSameAsEachDayShownOnItsOwn() throws InvalidInputException {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Task(1, "lecture", null,
+                LocalDateTime.parse("2/12/2030 09:00", inputWithTimeFormat),
+                LocalDateTime.parse("2/12/2030 11:00", inputWithTimeFormat)));
+        tasks.add(new Task(2, "tutorial", null,
+                LocalDateTime.parse("2/12/2030 13:00", inputWithTimeFormat),
+                LocalDateTime.parse("2/12/2030 14:00", inputWithTimeFormat)));
+        tasks.add(new Task(3, "gym", null,
+                LocalDateTime.parse("4/12/2030 18:00", inputWithTimeFormat),
+                LocalDateTime.parse("4/12/2030 19:00", inputWithTimeFormat)));
+        TaskList taskList = new TaskList(tasks);
+        Ui ui = new Ui();
+        LocalDate firstDate = LocalDate.of(2030, 12, 1);
+        for (int i = 0; i < 4; i++) {
+            Timetable.showScheduleByDay(firstDate.plusDays(i), taskList, ui);
+        }
+        String expectedOutput = outContent.toString();
+        outContent.reset();
+
+        Timetable.showScheduleOfDays(firstDate, 4, taskList, ui);
+        assertEquals(expectedOutput, outContent.toString());
+    }
 }
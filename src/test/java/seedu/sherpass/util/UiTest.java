@@ -0,0 +1,41 @@
+package seedu.sherpass.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import static seedu.sherpass.constant.Message.OUTPUT_BUFFER_SIZE;
+import static seedu.sherpass.constant.Message.PARTITION_LINE;
+
+public class UiTest {
+
+    @Test
+    void showToUser_bufferedUi_expectNothingPrintedUntilFlushed() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        Ui ui = new Ui(OUTPUT_BUFFER_SIZE);
+
+        ui.showToUser("first line", "second line");
+        ui.showLine();
+        assertEquals("", outContent.toString());
+
+        ui.flush();
+        assertEquals("first line" + System.lineSeparator() + "second line" + System.lineSeparator()
+                + PARTITION_LINE + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    void showToUserImmediately_bufferedUi_expectEarlierMessagesPrintedInOrder() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        Ui ui = new Ui(OUTPUT_BUFFER_SIZE);
+
+        ui.showToUser("Timer of 01 minute(s) started.");
+        ui.showToUserImmediately("45 second(s) are left.");
+        assertEquals("Timer of 01 minute(s) started." + System.lineSeparator()
+                + "45 second(s) are left." + System.lineSeparator(), outContent.toString());
+    }
+}
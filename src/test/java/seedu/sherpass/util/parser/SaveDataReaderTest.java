@@ -0,0 +1,69 @@
+package seedu.sherpass.util.parser;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.sherpass.exception.InvalidInputException;
+import seedu.sherpass.task.Task;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SaveDataReaderTest {
+
+    @TempDir
+    Path saveDirectory;
+
+    private File writeTestFile(String content) throws IOException {
+        File testFile = saveDirectory.resolve("testReader.json").toFile();
+        FileWriter writer = new FileWriter(testFile);
+        writer.write(content);
+        writer.close();
+        return testFile;
+    }
+
+    private ArrayList<Task> readAllTasks(File testFile) throws IOException, InvalidInputException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        try (SaveDataReader reader = new SaveDataReader(testFile.toPath())) {
+            while (reader.hasNextTask()) {
+                tasks.add(reader.nextTask());
+            }
+        }
+        return tasks;
+    }
+
+    @Test
+    void nextTask_twoTasksAndOtherKeys_expectTasksInOrder() throws IOException, InvalidInputException {
+        File testFile = writeTestFile("{\"version\": {\"a\": [1, 2]}, \"tasks\": [\n"
+                + "{\"by_date\": \" \", \"identifier\": 1, \"do_date_start\": \"6/6/2022 18:00\",\n"
+                + " \"description\": \"first\", \"do_date_end\": \"6/6/2022 20:00\", \"status\": \"X\"},\n"
+                + "{\"by_date\": \" \", \"identifier\": 2, \"do_date_start\": \"7/6/2022 18:00\",\n"
+                + " \"description\": \"second\", \"do_date_end\": \"7/6/2022 20:00\", \"status\": \" \"}\n"
+                + "], \"other\": \"value\"}");
+        ArrayList<Task> tasks = readAllTasks(testFile);
+        assertEquals(2, tasks.size());
+        assertEquals("first", tasks.get(0).getDescription());
+        assertTrue(tasks.get(0).isDone());
+        assertEquals(LocalDateTime.of(2022, 6, 7, 18, 0), tasks.get(1).getDoOnStartDateTime());
+    }
+
+    @Test
+    void hasNextTask_emptyFileOrTaskArray_expectNoTasks() throws IOException, InvalidInputException {
+        assertEquals(0, readAllTasks(writeTestFile("")).size());
+        assertEquals(0, readAllTasks(writeTestFile("{\"tasks\": []}")).size());
+    }
+
+    @Test
+    void nextTask_missingTaskArray_expectExceptionThrown() throws IOException {
+        File testFile = writeTestFile("{\"other\": []}");
+        assertThrows(JSONException.class, () -> readAllTasks(testFile));
+    }
+}
@@ -8,6 +8,7 @@ import seedu.sherpass.task.Task;
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class StorageParserTest {
@@ -49,4 +50,33 @@ class StorageParserTest {
             StorageParser.parseSaveData(taskInJson);
         });
     }
+
+    @Test
+    void parseSaveData_occurrencesSavedSeparately_expectDescriptionAndRuleShared() throws InvalidInputException {
+        String repeat = "    \"repeat\": {\"frequency\": \"weekly\", \"by_date\": \" \",\n"
+                + "        \"do_date_start\": \"6/6/2022 18:00\", \"do_date_end\": \"6/6/2022 20:00\"},\n";
+        String firstInput = "{\n"
+                + "    \"by_date\": \" \",\n"
+                + "    \"identifier\": 57077,\n"
+                + "    \"do_date_start\": \"6/6/2022 18:00\",\n"
+                + "    \"description\": \"shared_task\",\n"
+                + "    \"do_date_end\": \"6/6/2022 20:00\",\n"
+                + repeat
+                + "    \"status\": \" \"\n"
+                + "}";
+        String secondInput = "{\n"
+                + "    \"by_date\": \" \",\n"
+                + "    \"identifier\": 57077,\n"
+                + "    \"do_date_start\": \"13/6/2022 18:00\",\n"
+                + "    \"description\": \"shared_task\",\n"
+                + "    \"do_date_end\": \"13/6/2022 20:00\",\n"
+                + repeat
+                + "    \"status\": \"X\"\n"
+                + "}";
+        Task firstTask = StorageParser.parseSaveData(new JSONObject(firstInput));
+        Task secondTask = StorageParser.parseSaveData(new JSONObject(secondInput));
+        assertSame(firstTask.getDescription(), secondTask.getDescription());
+        assertSame(firstTask.getRecurrenceRule(), secondTask.getRecurrenceRule());
+        assertEquals(1, firstTask.getRecurrenceRule().findStep(secondTask));
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package seedu.sherpass.util.parser;
 import org.junit.jupiter.api.Test;
 import seedu.sherpass.command.Command;
 import seedu.sherpass.command.ShowCommand;
+import seedu.sherpass.util.Ui;
 
 import javax.lang.model.type.NullType;
 import java.time.LocalDate;
@@ -10,6 +11,8 @@ import java.time.format.ResolverStyle;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.sherpass.constant.DateAndTimeFormat.inputWithoutTimeFormat;
 
@@ -19,7 +22,7 @@ public class TimetableParserTest {
     void prepareShow_Expects_todayShowCommand() {
         String[] input = new String[] {"show", "today"};
 
-        Command test = TimetableParser.prepareShow(input);
+        Command test = TimetableParser.prepareShow(input, new Ui());
         assertEquals(test, new ShowCommand(null, "today"));
     }
 
@@ -27,7 +30,7 @@ public class TimetableParserTest {
     void prepareShow_Expects_monthlyShowCommand() {
         String[] input = new String[] {"show", "Jan"};
 
-        Command test = TimetableParser.prepareShow(input);
+        Command test = TimetableParser.prepareShow(input, new Ui());
         assertEquals(test, new ShowCommand(null, "jan"));
     }
 
@@ -35,8 +38,33 @@ public class TimetableParserTest {
     void prepareShow_Expects_dateShowCommand() {
         String[] input = new String[] {"show", "8/5/2022"};
 
-        Command test = TimetableParser.prepareShow(input);
+        Command test = TimetableParser.prepareShow(input, new Ui());
         assertEquals(test, new ShowCommand(LocalDate.parse("8/5/2022",
                 inputWithoutTimeFormat.withResolverStyle(ResolverStyle.STRICT)), null));
     }
+
+    @Test
+    void prepareShow_Expects_daysShowCommand() {
+        String[] input = new String[] {"show", "14d"};
+
+        Command test = TimetableParser.prepareShow(input, new Ui());
+        assertEquals(test, new ShowCommand(LocalDate.now(), 14));
+    }
+
+    @Test
+    void prepareShow_tooManyDays_expectNoCommand() {
+        String[] input = new String[] {"show", "400d"};
+
+        Command test = TimetableParser.prepareShow(input, new Ui());
+        assertNull(test);
+    }
+
+    @Test
+    void prepareShow_seriesOfDifferentTasks_expectDifferentShowCommands() {
+        String[] input = new String[] {"show", "series 2"};
+
+        Command test = TimetableParser.prepareShow(input, new Ui());
+        assertEquals(test, new ShowCommand(1));
+        assertNotEquals(test, new ShowCommand(0));
+    }
 }